@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,17 +18,42 @@ package org.wiremock.grpc;
 import com.github.tomakehurst.wiremock.extension.Extension;
 import com.github.tomakehurst.wiremock.extension.ExtensionFactory;
 import com.github.tomakehurst.wiremock.extension.WireMockServices;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.ScheduledExecutorService;
 import org.wiremock.grpc.internal.BlobProtoDescriptorStore;
+import org.wiremock.grpc.internal.ClientStreamMatching;
+import org.wiremock.grpc.internal.Delays;
+import org.wiremock.grpc.internal.GrpcChannelPool;
 import org.wiremock.grpc.internal.GrpcHttpClientFactory;
+import org.wiremock.grpc.internal.GrpcProxyTransformer;
+import org.wiremock.grpc.internal.GrpcSettings;
 import org.wiremock.grpc.internal.GrpcStubMappingTransformer;
+import org.wiremock.grpc.internal.JsonCodec;
 import org.wiremock.grpc.internal.ProtoDescriptorStore;
+import org.wiremock.grpc.internal.ProtoMessageRequestMatcher;
+import org.wiremock.grpc.internal.ProxyStubIndex;
+import org.wiremock.grpc.internal.ProxyTrust;
+import org.wiremock.grpc.internal.ResponseMessageCache;
 
 public class GrpcExtensionFactory implements ExtensionFactory {
 
   private final GrpcHttpServerFactory serverFactory;
   private final ProtoDescriptorStore protoDescriptorStore;
+  private final int responseMessageCacheSize;
+  private final boolean preSerializedResponses;
+  private final JsonCodec jsonCodec;
+  private final ScheduledExecutorService delayScheduler;
+  private final boolean virtualThreads;
+  private final ClientStreamMatching clientStreamMatching;
+  private final int maxAggregatedMessages;
+  private final long maxAggregatedBytes;
+  private final List<GrpcResponseGenerator> responseGenerators;
+  private final boolean lazyServices;
+  private final long proxyChannelIdleTimeoutMillis;
+  private final boolean asyncProxying;
+  private final boolean proxyPassthrough;
 
   public GrpcExtensionFactory() {
     this(null, null);
@@ -36,8 +61,28 @@ public class GrpcExtensionFactory implements ExtensionFactory {
 
   public GrpcExtensionFactory(
       GrpcHttpServerFactory serverFactory, ProtoDescriptorStore protoDescriptorStore) {
-    this.serverFactory = serverFactory;
-    this.protoDescriptorStore = protoDescriptorStore;
+    this(
+        new Builder()
+            .setServerFactory(serverFactory)
+            .setProtoDescriptorStore(protoDescriptorStore));
+  }
+
+  private GrpcExtensionFactory(Builder builder) {
+    this.serverFactory = builder.serverFactory;
+    this.protoDescriptorStore = builder.protoDescriptorStore;
+    this.responseMessageCacheSize = builder.responseMessageCacheSize;
+    this.preSerializedResponses = builder.preSerializedResponses;
+    this.jsonCodec = builder.jsonCodec;
+    this.delayScheduler = builder.delayScheduler;
+    this.virtualThreads = builder.virtualThreads;
+    this.clientStreamMatching = builder.clientStreamMatching;
+    this.maxAggregatedMessages = builder.maxAggregatedMessages;
+    this.maxAggregatedBytes = builder.maxAggregatedBytes;
+    this.responseGenerators = List.copyOf(builder.responseGenerators);
+    this.lazyServices = builder.lazyServices;
+    this.proxyChannelIdleTimeoutMillis = builder.proxyChannelIdleTimeoutMillis;
+    this.asyncProxying = builder.asyncProxying;
+    this.proxyPassthrough = builder.proxyPassthrough;
   }
 
   @Override
@@ -46,7 +91,8 @@ public class GrpcExtensionFactory implements ExtensionFactory {
     descriptorStore =
         descriptorStore != null
             ? descriptorStore
-            : new BlobProtoDescriptorStore(services.getStores().getBlobStore("grpc"));
+            : new BlobProtoDescriptorStore(
+                services.getStores().getBlobStore("grpc"), services.getOptions().notifier());
     GrpcHttpServerFactory serverFactory = this.serverFactory;
     serverFactory =
         serverFactory != null
@@ -57,12 +103,54 @@ public class GrpcExtensionFactory implements ExtensionFactory {
                     () ->
                         new IllegalStateException("No GrpcHttpServerFactory implementation found"));
     serverFactory.initProtoDescriptorStore(descriptorStore);
-    return List.of(serverFactory, new GrpcHttpClientFactory(), new GrpcStubMappingTransformer());
+
+    final ResponseMessageCache responseMessageCache =
+        new ResponseMessageCache(responseMessageCacheSize, preSerializedResponses);
+    final GrpcChannelPool channelPool = new GrpcChannelPool(proxyChannelIdleTimeoutMillis);
+    final ProxyTrust proxyTrust = new ProxyTrust();
+    final ProxyStubIndex proxyStubIndex = new ProxyStubIndex();
+    serverFactory.initSettings(
+        new GrpcSettings.Builder()
+            .setResponseMessageCache(responseMessageCache)
+            .setProxyStubIndex(proxyStubIndex)
+            .setJsonCodec(jsonCodec)
+            .setDelayScheduler(delayScheduler)
+            .setVirtualThreads(virtualThreads)
+            .setClientStreamMatching(clientStreamMatching)
+            .setMaxAggregatedMessages(maxAggregatedMessages)
+            .setMaxAggregatedBytes(maxAggregatedBytes)
+            .setResponseGenerators(responseGenerators)
+            .setLazyServices(lazyServices)
+            .setProxyPassthrough(proxyPassthrough)
+            .build());
+
+    return List.of(
+        serverFactory,
+        new GrpcHttpClientFactory(channelPool, proxyTrust),
+        new GrpcProxyTransformer(channelPool, proxyTrust, asyncProxying, proxyPassthrough),
+        new GrpcStubMappingTransformer(),
+        new ProtoMessageRequestMatcher(),
+        responseMessageCache,
+        proxyStubIndex,
+        channelPool);
   }
 
   public static class Builder {
     private GrpcHttpServerFactory serverFactory;
     private ProtoDescriptorStore protoDescriptorStore;
+    private int responseMessageCacheSize = ResponseMessageCache.DEFAULT_MAX_ENTRIES;
+    private boolean preSerializedResponses = false;
+    private JsonCodec jsonCodec = JsonCodec.JSON_FORMAT;
+    private ScheduledExecutorService delayScheduler = Delays.defaultScheduler();
+    private boolean virtualThreads = false;
+    private ClientStreamMatching clientStreamMatching = ClientStreamMatching.PER_MESSAGE;
+    private int maxAggregatedMessages = GrpcSettings.DEFAULT_MAX_AGGREGATED_MESSAGES;
+    private long maxAggregatedBytes = GrpcSettings.DEFAULT_MAX_AGGREGATED_BYTES;
+    private final List<GrpcResponseGenerator> responseGenerators = new ArrayList<>();
+    private boolean lazyServices = false;
+    private long proxyChannelIdleTimeoutMillis = GrpcChannelPool.DEFAULT_IDLE_TIMEOUT_MILLIS;
+    private boolean asyncProxying = false;
+    private boolean proxyPassthrough = false;
 
     public Builder setServerFactory(GrpcHttpServerFactory serverFactory) {
       this.serverFactory = serverFactory;
@@ -74,8 +162,150 @@ public class GrpcExtensionFactory implements ExtensionFactory {
       return this;
     }
 
+    /** Maximum number of parsed stub response messages to keep, least recently used first out. */
+    public Builder setResponseMessageCacheSize(int responseMessageCacheSize) {
+      if (responseMessageCacheSize < 0) {
+        throw new IllegalArgumentException("responseMessageCacheSize must not be negative");
+      }
+      this.responseMessageCacheSize = responseMessageCacheSize;
+      return this;
+    }
+
+    /**
+     * Keep cached stub responses as serialized protobuf bytes and write them out directly, rather
+     * than serializing the response message on every call. A response is serialized the first time
+     * it's reused. Templated responses are always serialized per call.
+     */
+    public Builder setPreSerializedResponses(boolean preSerializedResponses) {
+      this.preSerializedResponses = preSerializedResponses;
+      return this;
+    }
+
+    /**
+     * The codec used to convert between messages and JSON when matching requests and rendering
+     * responses. Defaults to protobuf's {@code JsonFormat}.
+     */
+    public Builder setJsonCodec(JsonCodec jsonCodec) {
+      this.jsonCodec = jsonCodec;
+      return this;
+    }
+
+    /**
+     * The scheduler that completes calls to stubs with a response delay. Defaults to one daemon
+     * thread per available core, shared by all servers; the caller owns the lifecycle of one passed
+     * in here. Delays of cancelled calls are cancelled too, so a {@code
+     * ScheduledThreadPoolExecutor} should have its remove-on-cancel policy set.
+     */
+    public Builder setDelayScheduler(ScheduledExecutorService delayScheduler) {
+      this.delayScheduler = delayScheduler;
+      return this;
+    }
+
+    /**
+     * Run gRPC call handling on virtual threads instead of a platform thread pool, so that blocking
+     * stub logic and proxying don't need the pool sized for peak concurrency. Requires Java 21+.
+     */
+    public Builder setVirtualThreads(boolean virtualThreads) {
+      this.virtualThreads = virtualThreads;
+      return this;
+    }
+
+    /**
+     * Whether client streams are matched message by message (the default) or buffered and matched
+     * once, as a single request, when the client half-closes.
+     */
+    public Builder setClientStreamMatching(ClientStreamMatching clientStreamMatching) {
+      this.clientStreamMatching = clientStreamMatching;
+      return this;
+    }
+
+    /**
+     * Only buffer this many messages from the start of each client stream for aggregated matching,
+     * discarding the rest undecoded. 10,000 by default.
+     *
+     * <p>Also bounds the messages kept from a stream matched message by message while a proxy stub
+     * could match the method, so that they can be sent upstream if a later one does. Messages are
+     * only kept until one is answered by another stub, and a stream with more than this many
+     * unanswered fails with RESOURCE_EXHAUSTED rather than being proxied in part.
+     */
+    public Builder setMaxAggregatedMessages(int maxAggregatedMessages) {
+      if (maxAggregatedMessages < 1) {
+        throw new IllegalArgumentException("maxAggregatedMessages must be at least 1");
+      }
+      this.maxAggregatedMessages = maxAggregatedMessages;
+      return this;
+    }
+
+    /**
+     * Stop buffering each client stream for aggregated matching once its messages reach this many
+     * serialized bytes, discarding the rest undecoded. 64MiB by default.
+     *
+     * <p>Bounds the messages kept for proxying in the same way as {@link
+     * #setMaxAggregatedMessages(int)}.
+     */
+    public Builder setMaxAggregatedBytes(long maxAggregatedBytes) {
+      if (maxAggregatedBytes < 1) {
+        throw new IllegalArgumentException("maxAggregatedBytes must be at least 1");
+      }
+      this.maxAggregatedBytes = maxAggregatedBytes;
+      return this;
+    }
+
+    /**
+     * Registers a generator that stubs can name to have their response messages produced on the fly
+     * rather than from a fixed body.
+     */
+    public Builder addResponseGenerator(GrpcResponseGenerator responseGenerator) {
+      this.responseGenerators.add(responseGenerator);
+      return this;
+    }
+
+    /**
+     * Only build a method's handler the first time it's called, rather than building every service
+     * in the loaded descriptors up front, so that startup time and heap grow with the methods a run
+     * actually uses. Server reflection doesn't list services that are only bound lazily.
+     */
+    public Builder setLazyServices(boolean lazyServices) {
+      this.lazyServices = lazyServices;
+      return this;
+    }
+
+    /**
+     * How long a channel to an upstream server that calls are proxied to is kept open without being
+     * used before it's shut down. Defaults to five minutes.
+     */
+    public Builder setProxyChannelIdleTimeoutMillis(long proxyChannelIdleTimeoutMillis) {
+      if (proxyChannelIdleTimeoutMillis < 1) {
+        throw new IllegalArgumentException("proxyChannelIdleTimeoutMillis must be at least 1");
+      }
+      this.proxyChannelIdleTimeoutMillis = proxyChannelIdleTimeoutMillis;
+      return this;
+    }
+
+    /**
+     * Proxy unary calls to gRPC upstreams asynchronously, as streaming calls always are, so that a
+     * slow upstream doesn't hold a server thread for the whole round trip. The upstream reply is
+     * logged as a sub-event of the serve event rather than as its response, so leave this off when
+     * recording stubs.
+     */
+    public Builder setAsyncProxying(boolean asyncProxying) {
+      this.asyncProxying = asyncProxying;
+      return this;
+    }
+
+    /**
+     * Relay proxied messages as the bytes they arrived as, rather than decoding them and encoding
+     * them again on the way through, so that only requests a stub matches on by content are ever
+     * decoded. Implies {@link #setAsyncProxying(boolean) asynchronous proxying}, and upstream
+     * replies are logged by their size alone.
+     */
+    public Builder setProxyPassthrough(boolean proxyPassthrough) {
+      this.proxyPassthrough = proxyPassthrough;
+      return this;
+    }
+
     public GrpcExtensionFactory build() {
-      return new GrpcExtensionFactory(serverFactory, protoDescriptorStore);
+      return new GrpcExtensionFactory(this);
     }
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2025 Thomas Akehurst
+ * Copyright (C) 2025-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,11 @@ package org.wiremock.grpc;
 
 import com.github.tomakehurst.wiremock.http.HttpServerFactory;
 import org.wiremock.grpc.internal.GrpcResetAdminApiTask;
+import org.wiremock.grpc.internal.GrpcSettings;
 import org.wiremock.grpc.internal.ProtoDescriptorStore;
 
 public interface GrpcHttpServerFactory extends HttpServerFactory, GrpcResetAdminApiTask {
   void initProtoDescriptorStore(ProtoDescriptorStore store);
+
+  void initSettings(GrpcSettings settings);
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import org.wiremock.grpc.internal.IteratorPublisher;
+
+/**
+ * Produces the response messages for stubs that name it, e.g. via {@code
+ * WireMockGrpc.generatedMessages("counter")}, so that long or unbounded streams never have to be
+ * materialized. Generators are registered with {@link GrpcExtensionFactory.Builder}.
+ *
+ * <p>Messages are requested from the publisher one at a time, only when the client is ready for
+ * more. Iterator based generators can use {@link #fromIterator(Iterator)}, which is pulled from
+ * directly.
+ *
+ * <p>A stub's generator parameters are kept apart from those of response transformers, as an
+ * object under the {@code grpcGenerator} transformer parameter:
+ *
+ * <pre>{@code
+ * "response": {
+ *   "headers": { "grpc-status-name": "OK", "grpc-message-generator": "counter" },
+ *   "transformerParameters": { "grpcGenerator": { "count": 3 } }
+ * }
+ * }</pre>
+ */
+public interface GrpcResponseGenerator {
+
+  String getName();
+
+  /**
+   * @param request the request message that matched the stub
+   * @param responseType the method's response message type
+   * @param parameters the generator parameters given by the stub, held in its transformer
+   *     parameters under {@code grpcGenerator}
+   */
+  Flow.Publisher<DynamicMessage> generate(
+      DynamicMessage request, Descriptors.Descriptor responseType, Parameters parameters);
+
+  static Flow.Publisher<DynamicMessage> fromIterator(Iterator<DynamicMessage> messages) {
+    return new IteratorPublisher(messages);
+  }
+}
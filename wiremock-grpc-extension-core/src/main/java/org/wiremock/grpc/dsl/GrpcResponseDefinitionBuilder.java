@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,9 @@ package org.wiremock.grpc.dsl;
 
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.http.*;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.wiremock.annotations.Beta;
 
 @Beta(justification = "Incubating extension: https://github.com/wiremock/wiremock/issues/2383")
@@ -24,6 +27,9 @@ public class GrpcResponseDefinitionBuilder {
 
   public static final String GRPC_STATUS_NAME = "grpc-status-name";
   public static final String GRPC_STATUS_REASON = "grpc-status-reason";
+  public static final String GRPC_MESSAGE_STREAM = "grpc-message-stream";
+  public static final String GRPC_MESSAGE_GENERATOR = "grpc-message-generator";
+  public static final String GRPC_GENERATOR_PARAMETERS = "grpcGenerator";
   private final WireMockGrpc.Status grpcStatus;
   private final String statusReason;
 
@@ -31,6 +37,12 @@ public class GrpcResponseDefinitionBuilder {
 
   private String json;
 
+  private boolean messageStream;
+
+  private String generatorName;
+
+  private final Map<String, Object> generatorParameters = new LinkedHashMap<>();
+
   private boolean templatingEnabled;
 
   private DelayDistribution delay;
@@ -56,6 +68,32 @@ public class GrpcResponseDefinitionBuilder {
     return this;
   }
 
+  /**
+   * Sends each of the JSON messages in turn on a server streaming method. They're held in the body
+   * as a JSON array and only converted to protobuf as the client becomes ready for more.
+   */
+  public GrpcResponseDefinitionBuilder fromJsonStream(List<String> jsonMessages) {
+    this.json = "[" + String.join(",", jsonMessages) + "]";
+    this.messageStream = true;
+    return this;
+  }
+
+  /** Has the named {@code GrpcResponseGenerator} produce the messages for each matching call. */
+  public GrpcResponseDefinitionBuilder fromGenerator(String generatorName) {
+    this.generatorName = generatorName;
+    return this;
+  }
+
+  /**
+   * Passes a parameter to the response generator. Generator parameters are held in the response's
+   * transformer parameters as an object under {@code grpcGenerator}, apart from any transformer's
+   * own, e.g. {@code "transformerParameters": { "grpcGenerator": { "count": 3 } }}.
+   */
+  public GrpcResponseDefinitionBuilder withGeneratorParameter(String name, Object value) {
+    this.generatorParameters.put(name, value);
+    return this;
+  }
+
   public GrpcResponseDefinitionBuilder withTemplatingEnabled(boolean enabled) {
     this.templatingEnabled = enabled;
     return this;
@@ -94,6 +132,18 @@ public class GrpcResponseDefinitionBuilder {
       responseDefinitionBuilder.withHeader(GRPC_STATUS_REASON, statusReason);
     }
 
+    if (generatorName != null) {
+      responseDefinitionBuilder.withHeader(GRPC_MESSAGE_GENERATOR, generatorName);
+      if (!generatorParameters.isEmpty()) {
+        responseDefinitionBuilder.withTransformerParameter(
+            GRPC_GENERATOR_PARAMETERS, generatorParameters);
+      }
+    }
+
+    if (messageStream) {
+      responseDefinitionBuilder.withHeader(GRPC_MESSAGE_STREAM, "true");
+    }
+
     if (templatingEnabled) {
       responseDefinitionBuilder.withTransformers("response-template");
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,15 +19,21 @@ import static org.wiremock.grpc.internal.UrlUtils.grpcUrlPath;
 
 import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.Encoding;
+import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.http.DelayDistribution;
 import com.github.tomakehurst.wiremock.http.Fault;
 import com.github.tomakehurst.wiremock.http.LogNormal;
 import com.github.tomakehurst.wiremock.http.UniformDistribution;
+import com.github.tomakehurst.wiremock.matching.BinaryEqualToPattern;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.wiremock.annotations.Beta;
+import org.wiremock.grpc.internal.ProtoMessageRequestMatcher;
 
 @Beta(justification = "Incubating extension: https://github.com/wiremock/wiremock/issues/2383")
 public class GrpcStubMappingBuilder {
@@ -36,6 +42,8 @@ public class GrpcStubMappingBuilder {
   private GrpcResponseDefinitionBuilder responseBuilder;
 
   private List<StringValuePattern> requestMessageJsonPatterns = new ArrayList<>();
+  private List<BinaryEqualToPattern> requestMessageBytesPatterns = new ArrayList<>();
+  private List<MessageFieldPattern> requestMessageFieldPatterns = new ArrayList<>();
 
   public GrpcStubMappingBuilder(String method) {
     this.method = method;
@@ -46,6 +54,22 @@ public class GrpcStubMappingBuilder {
     return this;
   }
 
+  /**
+   * Matches the request message byte-for-byte in its serialized protobuf form, e.g. with the bytes
+   * of a message captured from real traffic. The comparison is made by the {@link
+   * ProtoMessageRequestMatcher}, as the request body WireMock's own patterns see is JSON.
+   */
+  public GrpcStubMappingBuilder withRequestMessage(
+      BinaryEqualToPattern requestMessageBytesPattern) {
+    this.requestMessageBytesPatterns.add(requestMessageBytesPattern);
+    return this;
+  }
+
+  public GrpcStubMappingBuilder withRequestMessage(MessageFieldPattern requestMessageFieldPattern) {
+    this.requestMessageFieldPatterns.add(requestMessageFieldPattern);
+    return this;
+  }
+
   public GrpcStubMappingBuilder willReturn(GrpcResponseDefinitionBuilder responseBuilder) {
     this.responseBuilder = responseBuilder;
     return this;
@@ -83,6 +107,23 @@ public class GrpcStubMappingBuilder {
   public StubMapping build(String serviceName) {
     final MappingBuilder mappingBuilder = WireMock.post(grpcUrlPath(serviceName, method));
     requestMessageJsonPatterns.forEach(mappingBuilder::withRequestBody);
+    final Map<String, Object> messageMatcherParameters = new LinkedHashMap<>();
+    if (!requestMessageFieldPatterns.isEmpty()) {
+      messageMatcherParameters.put(
+          ProtoMessageRequestMatcher.FIELDS,
+          requestMessageFieldPatterns.stream().map(MessageFieldPattern::toParameters).toList());
+    }
+    if (!requestMessageBytesPatterns.isEmpty()) {
+      messageMatcherParameters.put(
+          ProtoMessageRequestMatcher.BINARY_EQUAL_TO,
+          requestMessageBytesPatterns.stream()
+              .map(pattern -> Encoding.encodeBase64(pattern.getValue()))
+              .toList());
+    }
+    if (!messageMatcherParameters.isEmpty()) {
+      mappingBuilder.andMatching(
+          ProtoMessageRequestMatcher.NAME, Parameters.from(messageMatcherParameters));
+    }
     return mappingBuilder.willReturn(responseBuilder.build()).build();
   }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.dsl;
+
+import static org.wiremock.grpc.internal.ProtoMessageRequestMatcher.CONTAINS;
+import static org.wiremock.grpc.internal.ProtoMessageRequestMatcher.MATCHES;
+import static org.wiremock.grpc.internal.ProtoMessageRequestMatcher.ONEOF_CASE;
+import static org.wiremock.grpc.internal.ProtoMessageRequestMatcher.PATH;
+
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.wiremock.annotations.Beta;
+
+/**
+ * A condition on a single field of the request message, evaluated against the decoded protobuf
+ * message rather than its JSON form. Field paths are dot separated, e.g. {@code "address.city"},
+ * and may use either the proto or JSON field names.
+ */
+@Beta(justification = "Incubating extension: https://github.com/wiremock/wiremock/issues/2383")
+public class MessageFieldPattern {
+
+  private final String fieldPath;
+  private final String kind;
+  private final Object expected;
+
+  private MessageFieldPattern(String fieldPath, String kind, Object expected) {
+    this.fieldPath = fieldPath;
+    this.kind = kind;
+    this.expected = expected;
+  }
+
+  static MessageFieldPattern matching(String fieldPath, StringValuePattern valuePattern) {
+    return new MessageFieldPattern(fieldPath, MATCHES, valuePattern);
+  }
+
+  static MessageFieldPattern containing(String fieldPath, StringValuePattern elementPattern) {
+    return new MessageFieldPattern(fieldPath, CONTAINS, elementPattern);
+  }
+
+  static MessageFieldPattern oneofCase(String oneofPath, String fieldName) {
+    return new MessageFieldPattern(oneofPath, ONEOF_CASE, fieldName);
+  }
+
+  public String getFieldPath() {
+    return fieldPath;
+  }
+
+  public Map<String, Object> toParameters() {
+    final Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put(PATH, fieldPath);
+    parameters.put(kind, expected);
+    return parameters;
+  }
+}
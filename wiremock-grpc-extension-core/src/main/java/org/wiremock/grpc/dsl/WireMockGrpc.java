@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
 import com.google.protobuf.MessageOrBuilder;
+import java.util.List;
 import org.wiremock.annotations.Beta;
 import org.wiremock.grpc.internal.JsonMessageUtils;
 
@@ -37,6 +38,28 @@ public class WireMockGrpc {
     return WireMock.equalToJson(json, true, false);
   }
 
+  public static MessageFieldPattern fieldEqualTo(String fieldPath, Object value) {
+    return fieldMatching(fieldPath, WireMock.equalTo(String.valueOf(value)));
+  }
+
+  public static MessageFieldPattern fieldMatching(
+      String fieldPath, StringValuePattern valuePattern) {
+    return MessageFieldPattern.matching(fieldPath, valuePattern);
+  }
+
+  public static MessageFieldPattern repeatedFieldContaining(String fieldPath, Object value) {
+    return repeatedFieldContaining(fieldPath, WireMock.equalTo(String.valueOf(value)));
+  }
+
+  public static MessageFieldPattern repeatedFieldContaining(
+      String fieldPath, StringValuePattern elementPattern) {
+    return MessageFieldPattern.containing(fieldPath, elementPattern);
+  }
+
+  public static MessageFieldPattern oneofCase(String oneofPath, String fieldName) {
+    return MessageFieldPattern.oneofCase(oneofPath, fieldName);
+  }
+
   public static GrpcResponseDefinitionBuilder json(String json) {
     return new GrpcResponseDefinitionBuilder(Status.OK).fromJson(json);
   }
@@ -50,6 +73,27 @@ public class WireMockGrpc {
     return new GrpcResponseDefinitionBuilder(Status.OK).fromJson(json);
   }
 
+  public static GrpcResponseDefinitionBuilder messages(MessageOrBuilder... messagesOrBuilders) {
+    return messages(List.of(messagesOrBuilders));
+  }
+
+  public static GrpcResponseDefinitionBuilder messages(
+      List<? extends MessageOrBuilder> messagesOrBuilders) {
+    return jsonStream(messagesOrBuilders.stream().map(JsonMessageUtils::toJson).toList());
+  }
+
+  public static GrpcResponseDefinitionBuilder jsonStream(String... jsonMessages) {
+    return jsonStream(List.of(jsonMessages));
+  }
+
+  public static GrpcResponseDefinitionBuilder jsonStream(List<String> jsonMessages) {
+    return new GrpcResponseDefinitionBuilder(Status.OK).fromJsonStream(jsonMessages);
+  }
+
+  public static GrpcResponseDefinitionBuilder generatedMessages(String generatorName) {
+    return new GrpcResponseDefinitionBuilder(Status.OK).fromGenerator(generatorName);
+  }
+
   public static GrpcResponseDefinitionBuilder messageAsAny(MessageOrBuilder messageOrBuilder) {
     final String initialJson = JsonMessageUtils.toJson(messageOrBuilder);
     final ObjectNode jsonObject = Json.read(initialJson, ObjectNode.class);
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,32 @@
  */
 package org.wiremock.grpc.internal;
 
+import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_GENERATOR_PARAMETERS;
+import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_MESSAGE_GENERATOR;
+import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_MESSAGE_STREAM;
+import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_STATUS_NAME;
+import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_STATUS_REASON;
+
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.http.StubRequestHandler;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
+import org.wiremock.grpc.GrpcResponseGenerator;
+import org.wiremock.grpc.dsl.WireMockGrpc;
 
 public abstract class BaseCallHandler {
   public static final ThreadLocal<GrpcContext> CONTEXT = new ThreadLocal<>();
@@ -25,19 +48,217 @@ public abstract class BaseCallHandler {
   protected final Descriptors.ServiceDescriptor serviceDescriptor;
   protected final Descriptors.MethodDescriptor methodDescriptor;
 
-  protected final JsonMessageConverter jsonMessageConverter;
+  protected final Supplier<JsonMessageConverter> jsonMessageConverterSupplier;
   protected final Supplier<ServerAddress> serverAddressSupplier;
+  protected final GrpcSettings settings;
 
   protected BaseCallHandler(
       StubRequestHandler stubRequestHandler,
       Descriptors.ServiceDescriptor serviceDescriptor,
       Descriptors.MethodDescriptor methodDescriptor,
-      JsonMessageConverter jsonMessageConverter,
-      Supplier<ServerAddress> serverAddressSupplier) {
+      Supplier<JsonMessageConverter> jsonMessageConverterSupplier,
+      Supplier<ServerAddress> serverAddressSupplier,
+      GrpcSettings settings) {
     this.stubRequestHandler = stubRequestHandler;
     this.serviceDescriptor = serviceDescriptor;
     this.methodDescriptor = methodDescriptor;
-    this.jsonMessageConverter = jsonMessageConverter;
+    this.jsonMessageConverterSupplier = jsonMessageConverterSupplier;
     this.serverAddressSupplier = serverAddressSupplier;
+    this.settings = settings;
+  }
+
+  /** Keeps a client stream's unanswered messages, in case a later one matches a proxy stub. */
+  protected RetainedMessages retainedMessages() {
+    return new RetainedMessages(
+        settings, "/" + serviceDescriptor.getFullName() + "/" + methodDescriptor.getName());
+  }
+
+  /**
+   * Sends the reply once the stub's delay has passed, unless the call is cancelled in the meantime.
+   * If the caller's deadline expires first, the reply is never built and the call fails with
+   * DEADLINE_EXCEEDED as soon as the deadline passes.
+   */
+  protected void replyAfterDelay(
+      long delayMillis,
+      StreamObserver<DynamicMessage> observer,
+      CallCancellation cancellation,
+      Supplier<Runnable> reply) {
+    replyAfterDelay(delayMillis, deadlineExceeded(observer), cancellation, reply);
+  }
+
+  /**
+   * As above, for a call whose responses are sent through an {@link OutboundMessageStream}, which
+   * the deadline failure goes through too so that it can't interleave with messages being written
+   * on another thread.
+   */
+  protected void replyAfterDelay(
+      long delayMillis,
+      StreamObserver<DynamicMessage> observer,
+      OutboundMessageStream responses,
+      CallCancellation cancellation,
+      Supplier<Runnable> reply) {
+    final Runnable deadlineExceeded = deadlineExceeded(observer);
+    replyAfterDelay(delayMillis, () -> responses.fail(deadlineExceeded), cancellation, reply);
+  }
+
+  private void replyAfterDelay(
+      long delayMillis,
+      Runnable deadlineExceeded,
+      CallCancellation cancellation,
+      Supplier<Runnable> reply) {
+    final Deadline deadline = Context.current().getDeadline();
+    if (Delays.outlastsDeadline(delayMillis, deadline)) {
+      cancellation.addPendingReply(
+          deadline.runOnExpiration(deadlineExceeded, settings.getDelayScheduler()));
+      return;
+    }
+
+    final Future<?> pendingReply =
+        Delays.runAfterDelay(delayMillis, settings.getDelayScheduler(), reply.get());
+    if (pendingReply != null) {
+      cancellation.addPendingReply(pendingReply);
+    }
+  }
+
+  private static Runnable deadlineExceeded(StreamObserver<DynamicMessage> observer) {
+    return () ->
+        observer.onError(
+            Status.DEADLINE_EXCEEDED
+                .withDescription("Deadline exceeded before the stub's delay elapsed")
+                .asRuntimeException());
+  }
+
+  /**
+   * Works out the reply for a single response message on the calling thread, so that only sending
+   * it is left for after any delay.
+   */
+  protected Runnable singleMessageReply(
+      Response resp, Map<String, Object> attributes, StreamObserver<DynamicMessage> observer) {
+    final Runnable errorReply = errorReply(resp, observer);
+    if (errorReply != null) {
+      return errorReply;
+    }
+
+    final DynamicMessage response = toResponseMessage(resp, attributes);
+    return () -> {
+      observer.onNext(response);
+      observer.onCompleted();
+    };
+  }
+
+  /** The reply for a response that represents a gRPC error, or null if it isn't one. */
+  protected Runnable errorReply(Response resp, StreamObserver<DynamicMessage> observer) {
+    final HttpHeader statusHeader = resp.getHeaders().getHeader(GRPC_STATUS_NAME);
+
+    if (!statusHeader.isPresent()
+        && GrpcStatusUtils.errorHttpToGrpcStatusMappings.containsKey(resp.getStatus())) {
+      final Pair<Status, String> statusMapping =
+          GrpcStatusUtils.errorHttpToGrpcStatusMappings.get(resp.getStatus());
+      return () ->
+          observer.onError(statusMapping.a.withDescription(statusMapping.b).asRuntimeException());
+    }
+
+    if (statusHeader.isPresent() && !statusHeader.firstValue().equals(Status.Code.OK.name())) {
+      final HttpHeader statusReasonHeader = resp.getHeaders().getHeader(GRPC_STATUS_REASON);
+      final String reason = statusReasonHeader.isPresent() ? statusReasonHeader.firstValue() : "";
+
+      WireMockGrpc.Status status = WireMockGrpc.Status.valueOf(statusHeader.firstValue());
+
+      return () ->
+          observer.onError(
+              Status.fromCodeValue(status.getValue()).withDescription(reason).asRuntimeException());
+    }
+
+    return null;
+  }
+
+  /**
+   * The messages to stream back for a response, which come from the generator the stub names, or
+   * are the elements of a message stream body, converted as they're pulled, or its single message.
+   */
+  protected Flow.Publisher<DynamicMessage> toResponseMessages(
+      DynamicMessage request, Response resp, Map<String, Object> attributes) {
+    final HttpHeader generatorHeader = resp.getHeaders().getHeader(GRPC_MESSAGE_GENERATOR);
+    if (generatorHeader.isPresent()) {
+      return generate(generatorHeader.firstValue(), request, attributes);
+    }
+
+    if (resp.getHeaders().getHeader(GRPC_MESSAGE_STREAM).isPresent()) {
+      return new IteratorPublisher(
+          new JsonMessageStream(
+              resp.getBodyAsString(),
+              methodDescriptor.getOutputType(),
+              jsonMessageConverterSupplier.get()));
+    }
+
+    return new IteratorPublisher(List.of(toResponseMessage(resp, attributes)).iterator());
+  }
+
+  private Flow.Publisher<DynamicMessage> generate(
+      String generatorName, DynamicMessage request, Map<String, Object> attributes) {
+    final GrpcResponseGenerator generator = settings.getResponseGenerators().get(generatorName);
+    if (generator == null) {
+      return failed(
+          new IllegalStateException("No gRPC response generator named '" + generatorName + "'"));
+    }
+
+    final ServeEvent serveEvent = (ServeEvent) attributes.get(ServeEvent.ORIGINAL_SERVE_EVENT_KEY);
+    final Parameters transformerParameters =
+        serveEvent != null ? serveEvent.getResponseDefinition().getTransformerParameters() : null;
+    final Parameters parameters = generatorParameters(transformerParameters);
+    try {
+      return generator.generate(request, methodDescriptor.getOutputType(), parameters);
+    } catch (RuntimeException e) {
+      return failed(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Parameters generatorParameters(Parameters transformerParameters) {
+    final Object nested =
+        transformerParameters != null ? transformerParameters.get(GRPC_GENERATOR_PARAMETERS) : null;
+    return nested instanceof Map<?, ?> map
+        ? Parameters.from((Map<String, Object>) map)
+        : Parameters.empty();
+  }
+
+  private static Flow.Publisher<DynamicMessage> failed(RuntimeException error) {
+    return subscriber -> {
+      subscriber.onSubscribe(
+          new Flow.Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {}
+          });
+      subscriber.onError(error);
+    };
+  }
+
+  protected DynamicMessage toResponseMessage(Response resp, Map<String, Object> attributes) {
+    final String body = resp.getBodyAsString();
+    final ServeEvent serveEvent = (ServeEvent) attributes.get(ServeEvent.ORIGINAL_SERVE_EVENT_KEY);
+    if (serveEvent == null || serveEvent.getStubMapping() == null) {
+      return parseResponseMessage(body);
+    }
+
+    final StubMapping stub = serveEvent.getStubMapping();
+    final List<String> transformers = stub.getResponse().getTransformers();
+    final boolean templated = transformers != null && transformers.contains("response-template");
+    return settings
+        .getResponseMessageCache()
+        .get(
+            stub.getId(),
+            methodDescriptor.getOutputType(),
+            body,
+            templated,
+            () -> parseResponseMessage(body));
+  }
+
+  private DynamicMessage parseResponseMessage(String body) {
+    return jsonMessageConverterSupplier
+        .get()
+        .toMessage(body, DynamicMessage.newBuilder(methodDescriptor.getOutputType()));
   }
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_STATUS_NAME;
+import static org.wiremock.grpc.internal.RetainedMessages.OVERFLOWED;
+
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.http.StubRequestHandler;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Matches each inbound message against the stubs as it arrives and streams the matched response
+ * back straight away, or after the stub's delay, without waiting for the client to half-close.
+ * Messages that don't match a stub get no response, and the call only fails as unmatched if none of
+ * them did. Once a message matches a proxy stub, the call is piped to the upstream server,
+ * starting with the messages since the last one another stub answered, which are kept up to the
+ * aggregation limits for this.
+ */
+public class BidiStreamingServerCallHandler extends BaseCallHandler
+    implements ServerCalls.BidiStreamingMethod<DynamicMessage, DynamicMessage> {
+
+  public BidiStreamingServerCallHandler(
+      StubRequestHandler stubRequestHandler,
+      Descriptors.ServiceDescriptor serviceDescriptor,
+      Descriptors.MethodDescriptor methodDescriptor,
+      Supplier<JsonMessageConverter> jsonMessageConverterSupplier,
+      Supplier<ServerAddress> serverAddressSupplier,
+      GrpcSettings settings) {
+    super(
+        stubRequestHandler,
+        serviceDescriptor,
+        methodDescriptor,
+        jsonMessageConverterSupplier,
+        serverAddressSupplier,
+        settings);
+  }
+
+  @Override
+  public StreamObserver<DynamicMessage> invoke(StreamObserver<DynamicMessage> responseObserver) {
+    final CallCancellation cancellation = CallCancellation.watch(responseObserver);
+    final OutboundMessageStream responses =
+        OutboundMessageStream.attach(responseObserver, cancellation);
+    final ServerAddress serverAddress = serverAddressSupplier.get();
+    final ServerCallStreamObserver<DynamicMessage> serverCallObserver =
+        (ServerCallStreamObserver<DynamicMessage>) responseObserver;
+    serverCallObserver.disableAutoRequest();
+    serverCallObserver.request(1);
+    final Runnable requestNext = () -> serverCallObserver.request(1);
+
+    final AtomicBoolean anyMatched = new AtomicBoolean();
+    final AtomicBoolean refused = new AtomicBoolean();
+    final AtomicReference<ProxiedStream> proxied = new AtomicReference<>();
+    final RetainedMessages retained = retainedMessages();
+
+    return new StreamObserver<>() {
+      @Override
+      public void onNext(DynamicMessage request) {
+        final ProxiedStream proxiedStream = proxied.get();
+        if (proxiedStream != null) {
+          proxiedStream.forward(request, requestNext);
+          return;
+        }
+
+        if (refused.get() || cancellation.isCancelled()) {
+          return;
+        }
+
+        final AtomicBoolean answered = new AtomicBoolean();
+        final GrpcContext context =
+            new GrpcContext(
+                serviceDescriptor, methodDescriptor, jsonMessageConverterSupplier.get(), request);
+        BaseCallHandler.CONTEXT.set(context);
+
+        final GrpcRequest wireMockRequest =
+            new GrpcRequest(
+                serverAddress.scheme(), serverAddress.hostname(), serverAddress.port(), context);
+
+        stubRequestHandler.handle(
+            wireMockRequest,
+            (req, resp, attributes) -> {
+              // As with client streaming, an unmatched message isn't an error in itself
+              if (!resp.getHeaders().getHeader(GRPC_STATUS_NAME).isPresent()
+                  && resp.getStatus() == 404) {
+                return;
+              }
+
+              if (cancellation.attach(attributes)) {
+                return;
+              }
+
+              anyMatched.set(true);
+              responses.expect();
+              final ProxiedStream started = context.getProxiedStream();
+              if (started != null) {
+                started.attach(attributes);
+                proxied.set(started);
+                replyAfterDelay(
+                    resp.getInitialDelay(),
+                    responseObserver,
+                    responses,
+                    cancellation,
+                    () ->
+                        () -> {
+                          responses.add(started);
+                          responses.close();
+                        });
+                return;
+              }
+
+              answered.set(true);
+              replyAfterDelay(
+                  resp.getInitialDelay(),
+                  responseObserver,
+                  responses,
+                  cancellation,
+                  () ->
+                      reply(context.getDm(), resp, attributes, responseObserver, responses));
+            },
+            ServeEvent.of(wireMockRequest));
+
+        final ProxiedStream started = proxied.get();
+        if (started != null) {
+          started.forward(retained.takeWith(request), requestNext);
+          return;
+        }
+
+        if (answered.get()) {
+          // Already mocked, so never replayed to the upstream
+          retained.clear();
+        } else {
+          retained.add(request);
+        }
+
+        if (retained.isOverflowed()) {
+          refused.set(true);
+          responses.fail(() -> responseObserver.onError(OVERFLOWED.asRuntimeException()));
+          return;
+        }
+        requestNext.run();
+      }
+
+      @Override
+      public void onError(Throwable t) {}
+
+      @Override
+      public void onCompleted() {
+        final ProxiedStream proxiedStream = proxied.get();
+        if (proxiedStream != null) {
+          proxiedStream.halfClose();
+          return;
+        }
+
+        if (refused.get() || cancellation.isCancelled()) {
+          return;
+        }
+
+        if (anyMatched.get()) {
+          responses.close();
+          return;
+        }
+
+        final Pair<Status, String> notFoundStatusMapping =
+            GrpcStatusUtils.errorHttpToGrpcStatusMappings.get(404);
+        responses.fail(
+            () ->
+                responseObserver.onError(
+                    notFoundStatusMapping
+                        .a
+                        .withDescription(notFoundStatusMapping.b)
+                        .asRuntimeException()));
+      }
+    };
+  }
+
+  private Runnable reply(
+      DynamicMessage request,
+      Response resp,
+      Map<String, Object> attributes,
+      StreamObserver<DynamicMessage> observer,
+      OutboundMessageStream responses) {
+    final Runnable errorReply = errorReply(resp, observer);
+    if (errorReply != null) {
+      return () -> responses.fail(errorReply);
+    }
+
+    final Flow.Publisher<DynamicMessage> messages = toResponseMessages(request, resp, attributes);
+    return () -> responses.add(messages);
+  }
+}
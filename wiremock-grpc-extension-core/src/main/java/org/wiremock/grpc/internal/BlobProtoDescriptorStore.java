@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2025 Thomas Akehurst
+ * Copyright (C) 2025-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,47 +16,231 @@
 package org.wiremock.grpc.internal;
 
 import com.github.tomakehurst.wiremock.common.Exceptions;
+import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import com.github.tomakehurst.wiremock.store.BlobStore;
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.Descriptors;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * Loads the file descriptor sets kept in the blob store. Blobs are indexed by a hash of their
+ * content, so that a reload only parses the blobs that changed and hands back the same {@link
+ * Descriptors.FileDescriptor} instances for files that are unchanged, letting the server keep the
+ * services it built from them.
+ *
+ * <p>Files are built in dependency order, each against only the files it imports. A file that
+ * appears in several descriptor sets is built once, from the first set it's found in by blob key.
+ * Blobs are parsed, and files that don't depend on each other are built, in parallel.
+ */
 public class BlobProtoDescriptorStore implements ProtoDescriptorStore {
   private final BlobStore blobStore;
+  private final Notifier notifier;
+  private Map<String, IndexedBlob> index = Map.of();
+  private Map<String, BuiltFile> builtFiles = Map.of();
 
   public BlobProtoDescriptorStore(BlobStore blobStore) {
+    this(blobStore, new Slf4jNotifier(false));
+  }
+
+  public BlobProtoDescriptorStore(BlobStore blobStore, Notifier notifier) {
     this.blobStore = blobStore;
+    this.notifier = notifier;
   }
 
   @Override
-  public List<Descriptors.FileDescriptor> loadAllFileDescriptors() {
-    List<Descriptors.FileDescriptor> fileDescriptors = new ArrayList<>();
-    blobStore
-        .getAllKeys()
-        .filter(key -> key.endsWith(".dsc") || key.endsWith(".desc"))
-        .map(
-            key ->
-                blobStore
-                    .get(key)
-                    .map(
-                        data ->
-                            Exceptions.uncheck(
-                                () -> DescriptorProtos.FileDescriptorSet.parseFrom(data),
-                                DescriptorProtos.FileDescriptorSet.class)))
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .flatMap(fileDescriptorSet -> fileDescriptorSet.getFileList().stream())
-        .forEach(
-            fileDescriptorProto ->
-                Exceptions.uncheck(
-                    () ->
-                        fileDescriptors.add(
-                            Descriptors.FileDescriptor.buildFrom(
-                                fileDescriptorProto,
-                                fileDescriptors.toArray(Descriptors.FileDescriptor[]::new),
-                                true))));
-    return fileDescriptors;
+  public synchronized List<Descriptors.FileDescriptor> loadAllFileDescriptors() {
+    final List<String> keys =
+        blobStore
+            .getAllKeys()
+            .filter(key -> key.endsWith(".dsc") || key.endsWith(".desc"))
+            .sorted()
+            .toList();
+    final List<IndexedBlob> blobs =
+        keys.parallelStream()
+            .map(key -> blobStore.get(key).map(data -> indexBlob(key, data)).orElse(null))
+            .toList();
+
+    final Map<String, IndexedBlob> newIndex = new HashMap<>();
+    final Map<String, DescriptorProtos.FileDescriptorProto> filesByName = new LinkedHashMap<>();
+    final Map<String, String> blobKeysByFileName = new HashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      final String key = keys.get(i);
+      final IndexedBlob blob = blobs.get(i);
+      if (blob == null) {
+        continue;
+      }
+
+      newIndex.put(key, blob);
+      for (DescriptorProtos.FileDescriptorProto file : blob.fileDescriptorSet.getFileList()) {
+        final DescriptorProtos.FileDescriptorProto first =
+            filesByName.putIfAbsent(file.getName(), file);
+        if (first == null) {
+          blobKeysByFileName.put(file.getName(), key);
+        } else if (!first.equals(file)) {
+          notifier.error(
+              "Descriptor file "
+                  + file.getName()
+                  + " in "
+                  + key
+                  + " differs from the one in "
+                  + blobKeysByFileName.get(file.getName())
+                  + ", which is used instead");
+        }
+      }
+    }
+
+    final Map<String, CompletableFuture<BuiltFile>> scheduled = new LinkedHashMap<>();
+    final Set<String> inProgress = new LinkedHashSet<>();
+    filesByName
+        .keySet()
+        .forEach(name -> schedule(name, filesByName, blobKeysByFileName, scheduled, inProgress));
+
+    final Map<String, BuiltFile> newBuiltFiles = new LinkedHashMap<>();
+    try {
+      scheduled.forEach((name, builtFile) -> newBuiltFiles.put(name, builtFile.join()));
+    } catch (CompletionException e) {
+      return Exceptions.throwUnchecked(e.getCause(), null);
+    }
+
+    index = newIndex;
+    builtFiles = newBuiltFiles;
+    return newBuiltFiles.values().stream().map(builtFile -> builtFile.fileDescriptor).toList();
+  }
+
+  private IndexedBlob indexBlob(String key, byte[] data) {
+    final byte[] hash = sha256(data);
+    final IndexedBlob previous = index.get(key);
+    if (previous != null && Arrays.equals(previous.hash, hash)) {
+      return previous;
+    }
+
+    return new IndexedBlob(
+        hash, Exceptions.uncheck(() -> DescriptorProtos.FileDescriptorSet.parseFrom(data)));
+  }
+
+  /**
+   * Walks the imports of the named file depth first, so that cycles and missing imports are found
+   * up front, and schedules it to be built on the common fork-join pool as soon as its imports are.
+   * Files in independent parts of the graph are therefore built in parallel.
+   */
+  private Optional<CompletableFuture<BuiltFile>> schedule(
+      String name,
+      Map<String, DescriptorProtos.FileDescriptorProto> filesByName,
+      Map<String, String> blobKeysByFileName,
+      Map<String, CompletableFuture<BuiltFile>> scheduled,
+      Set<String> inProgress) {
+    final CompletableFuture<BuiltFile> alreadyScheduled = scheduled.get(name);
+    if (alreadyScheduled != null) {
+      return Optional.of(alreadyScheduled);
+    }
+
+    final DescriptorProtos.FileDescriptorProto proto = filesByName.get(name);
+    if (proto == null) {
+      return Optional.empty();
+    }
+
+    if (!inProgress.add(name)) {
+      final List<String> cycle = new ArrayList<>(inProgress);
+      cycle.subList(0, cycle.indexOf(name)).clear();
+      cycle.add(name);
+      throw new IllegalArgumentException(
+          "Descriptor files import each other in a cycle: " + String.join(" -> ", cycle));
+    }
+
+    final List<CompletableFuture<BuiltFile>> dependencies = new ArrayList<>();
+    for (String dependencyName : proto.getDependencyList()) {
+      schedule(dependencyName, filesByName, blobKeysByFileName, scheduled, inProgress)
+          .ifPresentOrElse(
+              dependencies::add,
+              () ->
+                  notifier.error(
+                      "Descriptor file "
+                          + name
+                          + " in "
+                          + blobKeysByFileName.get(name)
+                          + " imports "
+                          + dependencyName
+                          + ", which isn't in any descriptor set. Types from it can't be used."));
+    }
+    inProgress.remove(name);
+
+    final BuiltFile previous = builtFiles.get(name);
+    final CompletableFuture<BuiltFile> builtFile =
+        CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new))
+            .thenApplyAsync(
+                ignored -> {
+                  final List<Descriptors.FileDescriptor> dependencyDescriptors =
+                      dependencies.stream()
+                          .map(dependency -> dependency.join().fileDescriptor)
+                          .toList();
+                  return previous != null && previous.isBuiltFrom(proto, dependencyDescriptors)
+                      ? previous
+                      : new BuiltFile(proto, dependencyDescriptors);
+                },
+                ForkJoinPool.commonPool());
+    scheduled.put(name, builtFile);
+    return Optional.of(builtFile);
+  }
+
+  private static byte[] sha256(byte[] data) {
+    return Exceptions.uncheck(() -> MessageDigest.getInstance("SHA-256").digest(data));
+  }
+
+  private static class IndexedBlob {
+    final byte[] hash;
+    final DescriptorProtos.FileDescriptorSet fileDescriptorSet;
+
+    IndexedBlob(byte[] hash, DescriptorProtos.FileDescriptorSet fileDescriptorSet) {
+      this.hash = hash;
+      this.fileDescriptorSet = fileDescriptorSet;
+    }
+  }
+
+  private static class BuiltFile {
+    final DescriptorProtos.FileDescriptorProto proto;
+    final List<Descriptors.FileDescriptor> dependencies;
+    final Descriptors.FileDescriptor fileDescriptor;
+
+    BuiltFile(
+        DescriptorProtos.FileDescriptorProto proto, List<Descriptors.FileDescriptor> dependencies) {
+      this.proto = proto;
+      this.dependencies = dependencies;
+      this.fileDescriptor =
+          Exceptions.uncheck(
+              () ->
+                  Descriptors.FileDescriptor.buildFrom(
+                      proto, dependencies.toArray(Descriptors.FileDescriptor[]::new), true));
+    }
+
+    /**
+     * Whether building the file again would give the same descriptor, in which case this one is
+     * reused. Protos from an unchanged blob are the same instance, so usually no comparison is
+     * done.
+     */
+    boolean isBuiltFrom(
+        DescriptorProtos.FileDescriptorProto proto, List<Descriptors.FileDescriptor> dependencies) {
+      if (dependencies.size() != this.dependencies.size()) {
+        return false;
+      }
+      for (int i = 0; i < dependencies.size(); i++) {
+        if (dependencies.get(i) != this.dependencies.get(i)) {
+          return false;
+        }
+      }
+      return this.proto == proto || this.proto.equals(proto);
+    }
   }
 }
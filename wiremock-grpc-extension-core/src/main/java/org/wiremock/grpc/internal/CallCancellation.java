@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import io.grpc.Context;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks whether a call has been cancelled, by the client going away or its deadline passing, so
+ * that the handler can stop working on it: stub matching and response encoding are skipped, a
+ * pending delayed reply is cancelled and the cancellation is recorded against the serve event.
+ */
+public class CallCancellation {
+
+  public static final String CANCELLED_MESSAGE =
+      "gRPC call was cancelled before a response was sent";
+
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+  private ServeEvent serveEvent;
+  private final List<Future<?>> pendingReplies = new ArrayList<>();
+
+  private CallCancellation() {}
+
+  /** Must be called from the method invocation, before it returns, for the handler to register. */
+  public static CallCancellation watch(StreamObserver<?> responseObserver) {
+    final CallCancellation cancellation = new CallCancellation();
+    if (responseObserver instanceof ServerCallStreamObserver<?> serverCallObserver) {
+      serverCallObserver.setOnCancelHandler(cancellation::cancel);
+    }
+    return cancellation;
+  }
+
+  public boolean isCancelled() {
+    return cancelled.get() || Context.current().isCancelled();
+  }
+
+  /**
+   * Associates the call with the serve event it produced, returning whether it has already been
+   * cancelled, in which case the cancellation is recorded against it.
+   */
+  public synchronized boolean attach(Map<String, Object> attributes) {
+    final boolean cancelledBefore = cancelled.get();
+    serveEvent = (ServeEvent) attributes.get(ServeEvent.ORIGINAL_SERVE_EVENT_KEY);
+    if (cancelledBefore) {
+      // Cancelled before this serve event existed, so not yet recorded against it
+      record();
+      return true;
+    }
+
+    if (Context.current().isCancelled()) {
+      cancel();
+      return true;
+    }
+    return false;
+  }
+
+  /** Registers a scheduled reply so that it's cancelled along with the call. */
+  public synchronized void addPendingReply(Future<?> reply) {
+    if (cancelled.get()) {
+      reply.cancel(false);
+    } else {
+      pendingReplies.removeIf(Future::isDone);
+      pendingReplies.add(reply);
+    }
+  }
+
+  private synchronized void cancel() {
+    if (!cancelled.compareAndSet(false, true)) {
+      return;
+    }
+
+    pendingReplies.forEach(reply -> reply.cancel(false));
+    pendingReplies.clear();
+    record();
+  }
+
+  private void record() {
+    if (serveEvent != null) {
+      serveEvent.appendSubEvent(SubEvent.info(CANCELLED_MESSAGE));
+    }
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+/** How the messages of a client streaming call are matched against stubs. */
+public enum ClientStreamMatching {
+
+  /**
+   * Each message is matched as a request of its own as it arrives, until one matches a stub. This
+   * costs a stub scan and a serve event per message up to the first match.
+   */
+  PER_MESSAGE,
+
+  /**
+   * The stream is buffered and matched once, on half-close, as a single request whose body is a
+   * JSON array of the messages. Field conditions match if they all hold for one of the messages.
+   */
+  AGGREGATED
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package org.wiremock.grpc.internal;
 
 import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_STATUS_NAME;
 import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_STATUS_REASON;
+import static org.wiremock.grpc.internal.RetainedMessages.OVERFLOWED;
 
 import com.github.tomakehurst.wiremock.common.Pair;
 import com.github.tomakehurst.wiremock.http.HttpHeader;
@@ -25,8 +26,13 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.wiremock.grpc.dsl.WireMockGrpc;
@@ -38,42 +44,93 @@ public class ClientStreamingServerCallHandler extends BaseCallHandler
       StubRequestHandler stubRequestHandler,
       Descriptors.ServiceDescriptor serviceDescriptor,
       Descriptors.MethodDescriptor methodDescriptor,
-      JsonMessageConverter jsonMessageConverter,
-      Supplier<ServerAddress> serverAddressSupplier) {
+      Supplier<JsonMessageConverter> jsonMessageConverterSupplier,
+      Supplier<ServerAddress> serverAddressSupplier,
+      GrpcSettings settings) {
     super(
         stubRequestHandler,
         serviceDescriptor,
         methodDescriptor,
-        jsonMessageConverter,
-        serverAddressSupplier);
+        jsonMessageConverterSupplier,
+        serverAddressSupplier,
+        settings);
   }
 
   @Override
   public StreamObserver<DynamicMessage> invoke(StreamObserver<DynamicMessage> responseObserver) {
+    final CallCancellation cancellation = CallCancellation.watch(responseObserver);
     final ServerAddress serverAddress = serverAddressSupplier.get();
+    final ServerCallStreamObserver<DynamicMessage> serverCallObserver =
+        (ServerCallStreamObserver<DynamicMessage>) responseObserver;
+    serverCallObserver.disableAutoRequest();
+    serverCallObserver.request(1);
+    final Runnable requestNext = () -> serverCallObserver.request(1);
+    final OutboundMessageStream responses =
+        OutboundMessageStream.attach(responseObserver, cancellation);
+
+    if (settings.getClientStreamMatching() == ClientStreamMatching.AGGREGATED) {
+      return aggregatingObserver(serverCallObserver, cancellation, serverAddress, responses);
+    }
 
     final AtomicReference<DynamicMessage> firstResponse = new AtomicReference<>();
     final AtomicReference<WireMockGrpc.Status> responseStatus = new AtomicReference<>();
     final AtomicReference<String> statusReason = new AtomicReference<>();
+    final AtomicLong responseDelay = new AtomicLong();
+    final AtomicReference<ProxiedStream> proxied = new AtomicReference<>();
+    final AtomicBoolean refused = new AtomicBoolean();
+    // The unanswered messages before a proxy match, so the upstream is sent the whole stream
+    final RetainedMessages retained = retainedMessages();
 
     return new StreamObserver<>() {
       @Override
-      public void onNext(DynamicMessage request) {
-        if (firstResponse.get() != null) {
+      public void onNext(DynamicMessage received) {
+        final ProxiedStream proxiedStream = proxied.get();
+        if (proxiedStream != null) {
+          proxiedStream.forward(received, requestNext);
           return;
         }
 
-        BaseCallHandler.CONTEXT.set(
-            new GrpcContext(serviceDescriptor, methodDescriptor, jsonMessageConverter, request));
+        boolean forwarded = false;
+        try {
+          // Once a response has been chosen the rest of the stream is dropped undecoded
+          if (firstResponse.get() == null && !refused.get() && !cancellation.isCancelled()) {
+            // Decoded by the context only if matching needs the message
+            final boolean answered = match(received);
+
+            final ProxiedStream started = proxied.get();
+            if (started != null) {
+              started.forward(retained.takeWith(received), requestNext);
+              forwarded = true;
+            } else if (firstResponse.get() != null || refused.get()) {
+              retained.release();
+            } else if (answered) {
+              retained.clear();
+            } else {
+              retained.add(received);
+              if (retained.isOverflowed()) {
+                refused.set(true);
+                responseObserver.onError(OVERFLOWED.asRuntimeException());
+              }
+            }
+          }
+        } finally {
+          if (!forwarded) {
+            requestNext.run();
+          }
+        }
+      }
+
+      /** Matches the message, returning whether a stub other than a proxy answered it. */
+      private boolean match(DynamicMessage received) {
+        final AtomicBoolean answered = new AtomicBoolean();
+        final GrpcContext context =
+            new GrpcContext(
+                serviceDescriptor, methodDescriptor, jsonMessageConverterSupplier.get(), received);
+        BaseCallHandler.CONTEXT.set(context);
 
         final GrpcRequest wireMockRequest =
             new GrpcRequest(
-                serverAddress.scheme(),
-                serverAddress.hostname(),
-                serverAddress.port(),
-                serviceDescriptor.getFullName(),
-                methodDescriptor.getName(),
-                jsonMessageConverter.toJson(request));
+                serverAddress.scheme(), serverAddress.hostname(), serverAddress.port(), context);
 
         stubRequestHandler.handle(
             wireMockRequest,
@@ -87,6 +144,24 @@ public class ClientStreamingServerCallHandler extends BaseCallHandler
                 return;
               }
 
+              if (cancellation.attach(attributes)) {
+                return;
+              }
+
+              final ProxiedStream started = context.getProxiedStream();
+              if (started != null) {
+                started.attach(attributes);
+                proxied.set(started);
+                replyAfterDelay(
+                    resp.getInitialDelay(),
+                    responseObserver,
+                    responses,
+                    cancellation,
+                    () -> () -> responses.start(started));
+                return;
+              }
+
+              answered.set(true);
               if (!statusHeader.isPresent()
                   && GrpcStatusUtils.errorHttpToGrpcStatusMappings.containsKey(resp.getStatus())) {
                 final Pair<Status, String> statusMapping =
@@ -97,6 +172,7 @@ public class ClientStreamingServerCallHandler extends BaseCallHandler
 
                 responseStatus.set(status);
                 statusReason.set(statusMapping.b);
+                responseDelay.set(resp.getInitialDelay());
 
                 return;
               }
@@ -112,20 +188,19 @@ public class ClientStreamingServerCallHandler extends BaseCallHandler
 
                 responseStatus.set(status);
                 statusReason.set(reason);
+                responseDelay.set(resp.getInitialDelay());
 
                 return;
               }
 
-              DynamicMessage.Builder messageBuilder =
-                  DynamicMessage.newBuilder(methodDescriptor.getOutputType());
-
-              final DynamicMessage response =
-                  jsonMessageConverter.toMessage(resp.getBodyAsString(), messageBuilder);
+              final DynamicMessage response = toResponseMessage(resp, attributes);
 
               responseStatus.set(WireMockGrpc.Status.OK);
               firstResponse.set(response);
+              responseDelay.set(resp.getInitialDelay());
             },
             ServeEvent.of(wireMockRequest));
+        return answered.get();
       }
 
       @Override
@@ -133,6 +208,21 @@ public class ClientStreamingServerCallHandler extends BaseCallHandler
 
       @Override
       public void onCompleted() {
+        final ProxiedStream proxiedStream = proxied.get();
+        if (proxiedStream != null) {
+          proxiedStream.halfClose();
+          return;
+        }
+
+        if (refused.get() || cancellation.isCancelled()) {
+          return;
+        }
+
+        replyAfterDelay(
+            responseDelay.get(), responseObserver, responses, cancellation, () -> this::reply);
+      }
+
+      private void reply() {
         if (responseStatus.get() != null && responseStatus.get() == WireMockGrpc.Status.OK) {
           responseObserver.onNext(firstResponse.get());
           responseObserver.onCompleted();
@@ -152,4 +242,99 @@ public class ClientStreamingServerCallHandler extends BaseCallHandler
       }
     };
   }
+
+  /**
+   * Buffers the stream, or as much of it as the configured limits allow, still serialized, and
+   * matches it once as a single request when the client half-closes. If it matches a proxy stub,
+   * the buffered messages are sent upstream as fast as the upstream call takes them. A stream that
+   * was cut short by the limits can't be relayed in full, so the call fails instead.
+   */
+  private StreamObserver<DynamicMessage> aggregatingObserver(
+      ServerCallStreamObserver<DynamicMessage> responseObserver,
+      CallCancellation cancellation,
+      ServerAddress serverAddress,
+      OutboundMessageStream responses) {
+    final int maxMessages = settings.getMaxAggregatedMessages();
+    final long maxBytes = settings.getMaxAggregatedBytes();
+    final List<DynamicMessage> received = new ArrayList<>();
+
+    return new StreamObserver<>() {
+      private long bufferedBytes;
+      private boolean full;
+
+      @Override
+      public void onNext(DynamicMessage message) {
+        final int size = DeferredMessageMarshaller.serializedSize(message);
+        if (received.size() >= maxMessages || bufferedBytes + size > maxBytes) {
+          full = true;
+        }
+
+        if (!full && !cancellation.isCancelled()) {
+          received.add(message);
+          bufferedBytes += size;
+        }
+        responseObserver.request(1);
+      }
+
+      @Override
+      public void onError(Throwable t) {}
+
+      @Override
+      public void onCompleted() {
+        if (cancellation.isCancelled()) {
+          return;
+        }
+
+        final List<DynamicMessage> messages =
+            received.stream().map(message -> decode(message)).toList();
+        final GrpcContext context =
+            new GrpcContext(
+                serviceDescriptor, methodDescriptor, jsonMessageConverterSupplier.get(), messages);
+        BaseCallHandler.CONTEXT.set(context);
+
+        final GrpcRequest wireMockRequest =
+            new GrpcRequest(
+                serverAddress.scheme(), serverAddress.hostname(), serverAddress.port(), context);
+
+        stubRequestHandler.handle(
+            wireMockRequest,
+            (req, resp, attributes) -> {
+              if (cancellation.attach(attributes)) {
+                return;
+              }
+
+              final ProxiedStream proxiedStream = context.getProxiedStream();
+              if (proxiedStream != null) {
+                proxiedStream.attach(attributes);
+                if (full) {
+                  proxiedStream.cancel(OVERFLOWED.getDescription());
+                  responseObserver.onError(OVERFLOWED.asRuntimeException());
+                  return;
+                }
+
+                proxiedStream.forwardAll(received);
+                replyAfterDelay(
+                    resp.getInitialDelay(),
+                    responseObserver,
+                    responses,
+                    cancellation,
+                    () -> () -> responses.start(proxiedStream));
+                return;
+              }
+
+              replyAfterDelay(
+                  resp.getInitialDelay(),
+                  responseObserver,
+                  responses,
+                  cancellation,
+                  () -> singleMessageReply(resp, attributes, responseObserver));
+            },
+            ServeEvent.of(wireMockRequest));
+      }
+    };
+  }
+
+  private DynamicMessage decode(DynamicMessage received) {
+    return DeferredMessageMarshaller.decode(received, methodDescriptor.getInputType());
+  }
 }
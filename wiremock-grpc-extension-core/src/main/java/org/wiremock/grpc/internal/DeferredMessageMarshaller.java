@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.common.Exceptions;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Marshaller that leaves each inbound message as its serialized bytes, wrapped in a placeholder
+ * message, so the handler only pays to decode the messages it actually matches on. Messages it has
+ * no use for, such as those following a match, are dropped without ever being decoded.
+ *
+ * <p>Placeholders are written back out as the bytes they hold, so a message can be passed from one
+ * call to another, as when proxying, without being decoded and re-encoded on the way, and cached
+ * stub responses can be serialized once rather than on every call.
+ */
+public class DeferredMessageMarshaller implements MethodDescriptor.Marshaller<DynamicMessage> {
+
+  private static final Descriptors.Descriptor SERIALIZED_MESSAGE = buildSerializedMessageType();
+  private static final Descriptors.FieldDescriptor BYTES = SERIALIZED_MESSAGE.findFieldByNumber(1);
+
+  private final MethodDescriptor.Marshaller<DynamicMessage> delegate;
+
+  public DeferredMessageMarshaller(MethodDescriptor.Marshaller<DynamicMessage> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public InputStream stream(DynamicMessage value) {
+    return isDeferred(value)
+        ? new SerializedMessageStream((ByteString) value.getField(BYTES))
+        : delegate.stream(value);
+  }
+
+  @Override
+  public DynamicMessage parse(InputStream stream) {
+    final ByteString bytes = Exceptions.uncheck(() -> ByteString.readFrom(stream));
+    return DynamicMessage.newBuilder(SERIALIZED_MESSAGE).setField(BYTES, bytes).build();
+  }
+
+  /** A placeholder for a message that's already serialized, which is written out as it is. */
+  public static DynamicMessage serialized(byte[] bytes) {
+    return DynamicMessage.newBuilder(SERIALIZED_MESSAGE)
+        .setField(BYTES, ByteString.copyFrom(bytes))
+        .build();
+  }
+
+  /** The size of the message on the wire. */
+  public static int serializedSize(DynamicMessage received) {
+    return isDeferred(received)
+        ? ((ByteString) received.getField(BYTES)).size()
+        : received.getSerializedSize();
+  }
+
+  /** The message in its serialized form, without decoding it if it hasn't been yet. */
+  public static byte[] toByteArray(DynamicMessage received) {
+    return isDeferred(received)
+        ? ((ByteString) received.getField(BYTES)).toByteArray()
+        : received.toByteArray();
+  }
+
+  /** Decodes a message received through this marshaller as the given type. */
+  public static DynamicMessage decode(DynamicMessage received, Descriptors.Descriptor type) {
+    if (!isDeferred(received)) {
+      return received;
+    }
+
+    try {
+      return DynamicMessage.parseFrom(type, (ByteString) received.getField(BYTES));
+    } catch (Exception e) {
+      throw Status.INTERNAL
+          .withDescription("Invalid protobuf byte sequence")
+          .withCause(e)
+          .asRuntimeException();
+    }
+  }
+
+  public static boolean isDeferred(DynamicMessage received) {
+    return received.getDescriptorForType() == SERIALIZED_MESSAGE;
+  }
+
+  private static Descriptors.Descriptor buildSerializedMessageType() {
+    final DescriptorProtos.FileDescriptorProto file =
+        DescriptorProtos.FileDescriptorProto.newBuilder()
+            .setName("wiremock/grpc/serialized_message.proto")
+            .setPackage("org.wiremock.grpc.internal")
+            .addMessageType(
+                DescriptorProtos.DescriptorProto.newBuilder()
+                    .setName("SerializedMessage")
+                    .addField(
+                        DescriptorProtos.FieldDescriptorProto.newBuilder()
+                            .setName("bytes")
+                            .setNumber(1)
+                            .setType(DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES)))
+            .build();
+    return Exceptions.uncheck(
+            () -> Descriptors.FileDescriptor.buildFrom(file, new Descriptors.FileDescriptor[0]))
+        .findMessageTypeByName("SerializedMessage");
+  }
+
+  /** Reads the bytes held by a placeholder without copying them first. */
+  private static class SerializedMessageStream extends InputStream
+      implements KnownLength, Drainable {
+
+    private final ByteString bytes;
+    private int pos;
+
+    SerializedMessageStream(ByteString bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public int read() {
+      return pos < bytes.size() ? bytes.byteAt(pos++) & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+
+      final int count = Math.min(length, bytes.size() - pos);
+      if (count <= 0) {
+        return -1;
+      }
+      bytes.copyTo(target, pos, offset, count);
+      pos += count;
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return bytes.size() - pos;
+    }
+
+    @Override
+    public int drainTo(OutputStream target) throws IOException {
+      final int length = bytes.size() - pos;
+      bytes.substring(pos).writeTo(target);
+      pos = bytes.size();
+      return length;
+    }
+  }
+}
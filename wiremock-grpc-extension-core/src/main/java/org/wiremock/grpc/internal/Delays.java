@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,19 +15,66 @@
  */
 package org.wiremock.grpc.internal;
 
-import com.github.tomakehurst.wiremock.http.Response;
+import io.grpc.Deadline;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Delays {
 
-  public static void delayIfRequired(Response response) {
-    final long delayMillis = response.getInitialDelay();
+  private Delays() {}
+
+  /**
+   * Runs the action once the delay has passed. Delayed actions are handed to the scheduler rather
+   * than sleeping, so a slow stub only costs a timer entry, not a thread.
+   *
+   * @return the scheduled action, or null if there was no delay and it has already run
+   */
+  public static ScheduledFuture<?> runAfterDelay(
+      long delayMillis, ScheduledExecutorService scheduler, Runnable action) {
     if (delayMillis > 0) {
-      try {
-        TimeUnit.MILLISECONDS.sleep(delayMillis);
-      } catch (InterruptedException var4) {
-        Thread.currentThread().interrupt();
-      }
+      return scheduler.schedule(action, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    action.run();
+    return null;
+  }
+
+  /** Whether the call's deadline, if it has one, will expire before the delay has passed. */
+  public static boolean outlastsDeadline(long delayMillis, Deadline deadline) {
+    return delayMillis > 0
+        && deadline != null
+        && deadline.timeRemaining(TimeUnit.MILLISECONDS) < delayMillis;
+  }
+
+  /**
+   * The scheduler shared by all servers that haven't been configured with their own. Delayed
+   * replies are written from its threads, so it has one per available core to keep them from
+   * queueing up behind each other.
+   */
+  public static ScheduledExecutorService defaultScheduler() {
+    return DefaultSchedulerHolder.SCHEDULER;
+  }
+
+  private static class DefaultSchedulerHolder {
+    static final ScheduledExecutorService SCHEDULER = newScheduler();
+
+    private static ScheduledExecutorService newScheduler() {
+      final AtomicInteger threadCount = new AtomicInteger();
+      final ScheduledThreadPoolExecutor scheduler =
+          new ScheduledThreadPoolExecutor(
+              Runtime.getRuntime().availableProcessors(),
+              runnable -> {
+                final Thread thread =
+                    new Thread(runnable, "wiremock-grpc-delays-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+      // delays of cancelled calls shouldn't hang around until they would have fired
+      scheduler.setRemoveOnCancelPolicy(true);
+      return scheduler;
     }
   }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.admin.Router;
+import com.github.tomakehurst.wiremock.extension.AdminApiExtension;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import io.grpc.ChannelCredentials;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.TlsChannelCredentials;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Channels to the upstream servers that gRPC calls are proxied to, shared between proxied calls
+ * rather than built for each one so that they reuse the upstream connection. Channels are keyed by
+ * upstream authority and TLS settings, shut down once they've gone unused for the idle timeout and
+ * all shut down when the server stops. Usage counts are served from {@code GET
+ * /__admin/ext/grpc/channels}.
+ */
+public class GrpcChannelPool implements AdminApiExtension {
+
+  public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+  private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+  private final long idleTimeoutNanos;
+  private final Map<Key, Entry> channels = new HashMap<>();
+  private long channelsCreated;
+  private long channelsEvicted;
+  private long leases;
+
+  public GrpcChannelPool() {
+    this(DEFAULT_IDLE_TIMEOUT_MILLIS);
+  }
+
+  public GrpcChannelPool(long idleTimeoutMillis) {
+    if (idleTimeoutMillis < 1) {
+      throw new IllegalArgumentException("idleTimeoutMillis must be at least 1");
+    }
+    this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+  }
+
+  /**
+   * Leases the channel to an upstream server, creating it if there isn't one yet. The channel isn't
+   * evicted while leased, so the lease must be closed once the call using it has completed.
+   */
+  public synchronized Lease acquire(String host, int port, boolean tls, boolean trustAll) {
+    final long now = System.nanoTime();
+    evictIdle(now);
+
+    final Key key = new Key(host + ":" + port, tls, tls && trustAll);
+    Entry entry = channels.get(key);
+    if (entry == null) {
+      entry = new Entry(buildChannel(host, port, key));
+      channels.put(key, entry);
+      channelsCreated++;
+    }
+    entry.leases++;
+    entry.lastUsed = now;
+    leases++;
+    return new Lease(entry);
+  }
+
+  private ManagedChannel buildChannel(String host, int port, Key key) {
+    final ChannelCredentials credentials =
+        !key.tls()
+            ? InsecureChannelCredentials.create()
+            : key.trustAll()
+                ? TlsChannelCredentials.newBuilder().trustManager(new TrustAllManager()).build()
+                : TlsChannelCredentials.create();
+    return Grpc.newChannelBuilderForAddress(host, port, credentials)
+        .idleTimeout(idleTimeoutNanos, TimeUnit.NANOSECONDS)
+        .build();
+  }
+
+  private synchronized void release(Entry entry) {
+    entry.leases--;
+    entry.lastUsed = System.nanoTime();
+  }
+
+  private void evictIdle(long now) {
+    final Iterator<Entry> entries = channels.values().iterator();
+    while (entries.hasNext()) {
+      final Entry entry = entries.next();
+      if (entry.leases == 0 && now - entry.lastUsed >= idleTimeoutNanos) {
+        entry.channel.shutdown();
+        entries.remove();
+        channelsEvicted++;
+      }
+    }
+  }
+
+  /**
+   * Shuts down every channel, giving calls still in flight a few seconds to complete before they're
+   * cancelled. The pool can still be used afterwards and builds new channels as they're needed.
+   */
+  public void shutdown() {
+    final List<ManagedChannel> closing;
+    synchronized (this) {
+      closing = new ArrayList<>();
+      channels.values().forEach(entry -> closing.add(entry.channel));
+      channels.clear();
+    }
+
+    closing.forEach(ManagedChannel::shutdown);
+    final long giveUpAt =
+        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS);
+    for (ManagedChannel channel : closing) {
+      try {
+        channel.awaitTermination(giveUpAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      channel.shutdownNow();
+    }
+  }
+
+  public synchronized Metrics getMetrics() {
+    return new Metrics(channels.size(), channelsCreated, channelsEvicted, leases);
+  }
+
+  @Override
+  public void contributeAdminApiRoutes(Router router) {
+    router.add(
+        RequestMethod.GET,
+        "/ext/grpc/channels",
+        (admin, serveEvent, pathParams) -> ResponseDefinition.okForJson(getMetrics()));
+  }
+
+  @Override
+  public void stop() {
+    shutdown();
+  }
+
+  @Override
+  public String getName() {
+    return "grpc-channel-pool";
+  }
+
+  /** A channel borrowed from the pool, returned to it on close. */
+  public class Lease implements AutoCloseable {
+    private final Entry entry;
+    private boolean closed;
+
+    private Lease(Entry entry) {
+      this.entry = entry;
+    }
+
+    public ManagedChannel getChannel() {
+      return entry.channel;
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        release(entry);
+      }
+    }
+  }
+
+  /**
+   * @param openChannels channels currently in the pool
+   * @param channelsCreated channels built since the pool was created
+   * @param channelsEvicted channels shut down after going unused for the idle timeout
+   * @param leases calls that have used a pooled channel; well above {@code channelsCreated} when
+   *     channels are being reused
+   */
+  public record Metrics(
+      int openChannels, long channelsCreated, long channelsEvicted, long leases) {}
+
+  private record Key(String authority, boolean tls, boolean trustAll) {}
+
+  private static class Entry {
+    final ManagedChannel channel;
+    int leases;
+    long lastUsed;
+
+    Entry(ManagedChannel channel) {
+      this.channel = channel;
+    }
+  }
+
+  private static class TrustAllManager implements X509TrustManager {
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) {}
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) {}
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return new X509Certificate[0];
+    }
+  }
+}
@@ -31,9 +31,19 @@ import java.util.List;
 
 public class GrpcClient implements HttpClient {
   private final HttpClient delegateClient;
+  private final GrpcChannelPool channelPool;
+  private final boolean trustAllCertificates;
+  private final List<String> trustedHosts;
 
-  public GrpcClient(HttpClient delegateClient) {
+  public GrpcClient(
+      HttpClient delegateClient,
+      GrpcChannelPool channelPool,
+      boolean trustAllCertificates,
+      List<String> trustedHosts) {
     this.delegateClient = delegateClient;
+    this.channelPool = channelPool;
+    this.trustAllCertificates = trustAllCertificates;
+    this.trustedHosts = List.copyOf(trustedHosts);
   }
 
   @Override
@@ -46,19 +56,32 @@ public class GrpcClient implements HttpClient {
     GrpcContext context = BaseCallHandler.CONTEXT.get();
     BaseCallHandler.CONTEXT.remove();
 
-    Channel channel =
-        ManagedChannelBuilder.forAddress(request.getHost(), request.getPort())
-            .usePlaintext()
-            .build();
+    // The upstream call is made in the incoming call's Context, so it is cancelled along with it
+    if (Context.current().isCancelled()) {
+      return response()
+          .status(500)
+          .headers(
+              new HttpHeaders(
+                  new HttpHeader(GrpcUtils.GRPC_STATUS_NAME, Status.Code.CANCELLED.name()),
+                  new HttpHeader(GrpcUtils.GRPC_STATUS_REASON, CallCancellation.CANCELLED_MESSAGE)))
+          .build();
+    }
+
+    final String host = request.getHost();
     List<HttpHeader> headers = new ArrayList<>();
     headers.add(new HttpHeader("Content-Type", "application/json"));
     Response.Builder grpcRespBuilder = response();
     String statusName = Status.Code.OK.name();
     String statusReason = null;
-    try {
+    try (GrpcChannelPool.Lease lease =
+        channelPool.acquire(
+            host,
+            request.getPort(),
+            "https".equalsIgnoreCase(request.getScheme()),
+            trustAllCertificates || trustedHosts.contains(host))) {
       DynamicMessage responseMsg =
           ClientCalls.blockingUnaryCall(
-              channel,
+              lease.getChannel(),
               GrpcUtils.buildMessageDescriptorInstance(
                   context.getServiceDescriptor(), context.getMethodDescriptor()),
               CallOptions.DEFAULT,
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2025 Thomas Akehurst
+ * Copyright (C) 2025-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,22 +17,43 @@ package org.wiremock.grpc.internal;
 
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class GrpcContext {
   private final Descriptors.ServiceDescriptor serviceDescriptor;
   private final Descriptors.MethodDescriptor methodDescriptor;
   private final JsonMessageConverter jsonMessageConverter;
-  private final DynamicMessage dm;
+  private final DynamicMessage received;
+  private volatile DynamicMessage dm;
+  private final List<DynamicMessage> messageStream;
+  private volatile CompletableFuture<DynamicMessage> proxiedReply;
+  private volatile ProxiedStream proxiedStream;
 
   public GrpcContext(
       Descriptors.ServiceDescriptor serviceDescriptor,
       Descriptors.MethodDescriptor methodDescriptor,
       JsonMessageConverter jsonMessageConverter,
-      DynamicMessage dm) {
+      DynamicMessage received) {
     this.serviceDescriptor = serviceDescriptor;
     this.methodDescriptor = methodDescriptor;
     this.jsonMessageConverter = jsonMessageConverter;
-    this.dm = dm;
+    this.received = received;
+    this.messageStream = null;
+  }
+
+  /** A context for a whole client stream, matched as a single request. */
+  public GrpcContext(
+      Descriptors.ServiceDescriptor serviceDescriptor,
+      Descriptors.MethodDescriptor methodDescriptor,
+      JsonMessageConverter jsonMessageConverter,
+      List<DynamicMessage> messageStream) {
+    this.serviceDescriptor = serviceDescriptor;
+    this.methodDescriptor = methodDescriptor;
+    this.jsonMessageConverter = jsonMessageConverter;
+    this.received = messageStream.isEmpty() ? null : messageStream.get(0);
+    this.dm = received;
+    this.messageStream = List.copyOf(messageStream);
   }
 
   public Descriptors.ServiceDescriptor getServiceDescriptor() {
@@ -47,7 +68,47 @@ public class GrpcContext {
     return jsonMessageConverter;
   }
 
+  /**
+   * The request message, or the first message of an aggregated client stream. A message that was
+   * received still serialized is only decoded the first time it's asked for.
+   */
   public DynamicMessage getDm() {
-    return dm;
+    DynamicMessage result = dm;
+    if (result == null && received != null) {
+      result = DeferredMessageMarshaller.decode(received, methodDescriptor.getInputType());
+      dm = result;
+    }
+    return result;
+  }
+
+  /** The request message as it was received, which may still be serialized. */
+  public DynamicMessage getReceived() {
+    return received;
+  }
+
+  public boolean isMessageStream() {
+    return messageStream != null;
+  }
+
+  public List<DynamicMessage> getMessages() {
+    return messageStream != null ? messageStream : List.of(getDm());
+  }
+
+  /** The upstream reply when the call is being proxied asynchronously, otherwise null. */
+  public CompletableFuture<DynamicMessage> getProxiedReply() {
+    return proxiedReply;
+  }
+
+  public void setProxiedReply(CompletableFuture<DynamicMessage> proxiedReply) {
+    this.proxiedReply = proxiedReply;
+  }
+
+  /** The upstream call when a streaming call is being proxied, otherwise null. */
+  public ProxiedStream getProxiedStream() {
+    return proxiedStream;
+  }
+
+  public void setProxiedStream(ProxiedStream proxiedStream) {
+    this.proxiedStream = proxiedStream;
   }
 }
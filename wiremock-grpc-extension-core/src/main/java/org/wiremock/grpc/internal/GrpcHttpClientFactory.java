@@ -21,15 +21,33 @@ import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
 import com.github.tomakehurst.wiremock.http.client.apache5.ApacheHttpClientFactory;
 import java.util.List;
 
+/**
+ * Builds HTTP clients that proxy gRPC requests over channels from the given pool. The pool isn't
+ * owned by the factory: {@link org.wiremock.grpc.GrpcExtensionFactory} creates one per extension
+ * instance and registers it as an extension, so it's shut down along with the server.
+ */
 public class GrpcHttpClientFactory implements HttpClientFactory {
   private final HttpClientFactory delegateFactory;
+  private final GrpcChannelPool channelPool;
+  private final ProxyTrust proxyTrust;
+
+  public GrpcHttpClientFactory(GrpcChannelPool channelPool) {
+    this(channelPool, new ProxyTrust());
+  }
+
+  public GrpcHttpClientFactory(GrpcChannelPool channelPool, ProxyTrust proxyTrust) {
+    this(new ApacheHttpClientFactory(), channelPool, proxyTrust);
+  }
 
-  public GrpcHttpClientFactory() {
-    this(new ApacheHttpClientFactory());
+  public GrpcHttpClientFactory(HttpClientFactory delegateFactory, GrpcChannelPool channelPool) {
+    this(delegateFactory, channelPool, new ProxyTrust());
   }
 
-  public GrpcHttpClientFactory(HttpClientFactory delegateFactory) {
+  public GrpcHttpClientFactory(
+      HttpClientFactory delegateFactory, GrpcChannelPool channelPool, ProxyTrust proxyTrust) {
     this.delegateFactory = delegateFactory;
+    this.channelPool = channelPool;
+    this.proxyTrust = proxyTrust;
   }
 
   @Override
@@ -43,8 +61,12 @@ public class GrpcHttpClientFactory implements HttpClientFactory {
       boolean trustAllCertificates,
       List<String> trustedHosts,
       boolean useSystemProperties) {
+    proxyTrust.record(trustAllCertificates, trustedHosts);
     return new GrpcClient(
         delegateFactory.buildHttpClient(
-            options, trustAllCertificates, trustedHosts, useSystemProperties));
+            options, trustAllCertificates, trustedHosts, useSystemProperties),
+        channelPool,
+        trustAllCertificates,
+        trustedHosts);
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.common.Encoding;
+import com.github.tomakehurst.wiremock.common.Exceptions;
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.Strings;
+import com.github.tomakehurst.wiremock.common.entity.Entity;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.google.protobuf.DynamicMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Body source for a gRPC request that keeps hold of the decoded message and renders its JSON form
+ * only when something (a body matcher, a template, the admin API) actually asks for it. WireMock
+ * copies the request's body entity (and therefore this source) into the logged request it matches
+ * against, so matchers can also get back to the message via {@link #from(Request)}.
+ */
+public class GrpcMessageBody implements InputStreamSource {
+
+  private final GrpcContext context;
+
+  private volatile String json;
+  private volatile byte[] bytes;
+  private volatile String base64;
+  private volatile byte[] protobufBytes;
+
+  public GrpcMessageBody(GrpcContext context) {
+    this.context = context;
+  }
+
+  public static Optional<GrpcMessageBody> from(Request request) {
+    final Entity bodyEntity = request.getBodyEntity();
+    return bodyEntity != null && bodyEntity.getStreamSource() instanceof GrpcMessageBody body
+        ? Optional.of(body)
+        : Optional.empty();
+  }
+
+  public GrpcContext getContext() {
+    return context;
+  }
+
+  public DynamicMessage getMessage() {
+    return context.getDm();
+  }
+
+  public List<DynamicMessage> getMessages() {
+    return context.getMessages();
+  }
+
+  /** The message as JSON, or a JSON array of the messages of an aggregated client stream. */
+  public String getJson() {
+    String result = json;
+    if (result == null) {
+      final JsonMessageConverter converter = context.getJsonMessageConverter();
+      result =
+          context.isMessageStream()
+              ? context.getMessages().stream()
+                  .map(converter::toJson)
+                  .collect(Collectors.joining(",", "[", "]"))
+              : converter.toJson(context.getDm());
+      json = result;
+    }
+    return result;
+  }
+
+  public byte[] getBytes() {
+    byte[] result = bytes;
+    if (result == null) {
+      result = Strings.bytesFromString(getJson());
+      bytes = result;
+    }
+    return result;
+  }
+
+  public String getBase64() {
+    String result = base64;
+    if (result == null) {
+      result = Encoding.encodeBase64(getBytes());
+      base64 = result;
+    }
+    return result;
+  }
+
+  /**
+   * The message in its serialized protobuf form. Unlike {@link #getBytes()} this never involves the
+   * JSON printer, so byte-for-byte comparisons against recorded traffic stay cheap, and a message
+   * received still serialized isn't decoded for it. The messages of an aggregated client stream
+   * are each written length-delimited, one after the other.
+   */
+  public byte[] getProtobufBytes() {
+    byte[] result = protobufBytes;
+    if (result == null) {
+      result =
+          context.isMessageStream()
+              ? delimited(context.getMessages())
+              : DeferredMessageMarshaller.toByteArray(context.getReceived());
+      protobufBytes = result;
+    }
+    return result;
+  }
+
+  private static byte[] delimited(List<DynamicMessage> messages) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (DynamicMessage message : messages) {
+      Exceptions.uncheck(() -> message.writeDelimitedTo(out));
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  public InputStream getStream() {
+    return new ByteArrayInputStream(getBytes());
+  }
+}
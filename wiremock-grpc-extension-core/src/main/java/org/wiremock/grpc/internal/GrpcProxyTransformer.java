@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
+
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proxies gRPC calls without holding a thread for the upstream round trip. When a call matches a
+ * proxy stub, the upstream call is started here, before the response is rendered, and the stub is
+ * answered with a placeholder so that WireMock's HTTP client isn't used. The call handler then
+ * replies from the upstream callback, or for streaming methods pipes the rest of the call through a
+ * {@link ProxiedStream}.
+ *
+ * <p>The upstream reply isn't known when the serve event is logged, so it is recorded as a
+ * sub-event instead. Unary calls are only proxied this way when enabled, since recording stubs from
+ * proxied traffic needs the blocking proxy.
+ *
+ * <p>With passthrough, which implies asynchronous unary proxying, request and reply messages are
+ * relayed as the bytes they arrived as, and are only decoded if matching the request needs them.
+ *
+ * <p>Either way, the client's request headers are sent upstream and the upstream's response headers
+ * and trailers are relayed back, through the call's {@link RelayedMetadata}. Upstream certificates
+ * are trusted as WireMock's own HTTP clients are configured to trust them, per {@link ProxyTrust}.
+ */
+public class GrpcProxyTransformer implements ResponseDefinitionTransformerV2 {
+
+  private final GrpcChannelPool channelPool;
+  private final ProxyTrust proxyTrust;
+  private final boolean asyncUnary;
+  private final boolean passthrough;
+
+  public GrpcProxyTransformer(
+      GrpcChannelPool channelPool, ProxyTrust proxyTrust, boolean asyncUnary, boolean passthrough) {
+    this.channelPool = channelPool;
+    this.proxyTrust = proxyTrust;
+    this.asyncUnary = asyncUnary || passthrough;
+    this.passthrough = passthrough;
+  }
+
+  @Override
+  public ResponseDefinition transform(ServeEvent serveEvent) {
+    final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    final GrpcContext context = BaseCallHandler.CONTEXT.get();
+    if (!responseDefinition.isProxyResponse()
+        || context == null
+        || !"application/grpc"
+            .equalsIgnoreCase(serveEvent.getRequest().getHeader("Content-Type"))) {
+      return responseDefinition;
+    }
+
+    final boolean streaming =
+        context.getMethodDescriptor().isClientStreaming()
+            || context.getMethodDescriptor().isServerStreaming();
+    if (!streaming && !asyncUnary) {
+      return responseDefinition;
+    }
+
+    final URI upstream;
+    try {
+      upstream = URI.create(responseDefinition.getProxyBaseUrl());
+    } catch (IllegalArgumentException e) {
+      // Left to the blocking proxy, which reports the invalid URL in its response
+      return responseDefinition;
+    }
+    BaseCallHandler.CONTEXT.remove();
+    final RelayedMetadata relayedMetadata = RelayedMetadata.current();
+
+    final boolean tls = "https".equalsIgnoreCase(upstream.getScheme());
+    final int port = upstream.getPort() != -1 ? upstream.getPort() : tls ? 443 : 80;
+    final GrpcChannelPool.Lease lease =
+        channelPool.acquire(upstream.getHost(), port, tls, proxyTrust.trusts(upstream.getHost()));
+    // Created in the incoming call's Context, so it is cancelled along with it
+    final ClientCall<DynamicMessage, DynamicMessage> upstreamCall =
+        lease
+            .getChannel()
+            .newCall(
+                GrpcUtils.buildUpstreamMethodDescriptor(
+                    context.getServiceDescriptor(), context.getMethodDescriptor(), passthrough),
+                CallOptions.DEFAULT);
+
+    if (streaming) {
+      final ProxiedStream stream = new ProxiedStream(upstreamCall, lease, relayedMetadata);
+      stream.start();
+      context.setProxiedStream(stream);
+    } else {
+      context.setProxiedReply(
+          callUnary(upstreamCall, context.getReceived(), lease, relayedMetadata));
+    }
+
+    return responseDefinition()
+        .withStatus(200)
+        .withFixedDelay(responseDefinition.getFixedDelayMilliseconds())
+        .withRandomDelay(responseDefinition.getDelayDistribution())
+        .build();
+  }
+
+  private static CompletableFuture<DynamicMessage> callUnary(
+      ClientCall<DynamicMessage, DynamicMessage> upstreamCall,
+      DynamicMessage request,
+      GrpcChannelPool.Lease lease,
+      RelayedMetadata relayedMetadata) {
+    final CompletableFuture<DynamicMessage> reply = new CompletableFuture<>();
+    reply.whenComplete((message, error) -> lease.close());
+    upstreamCall.start(
+        new ClientCall.Listener<>() {
+          private DynamicMessage response;
+
+          @Override
+          public void onHeaders(Metadata headers) {
+            if (relayedMetadata != null) {
+              relayedMetadata.setResponseHeaders(headers);
+            }
+          }
+
+          @Override
+          public void onMessage(DynamicMessage message) {
+            response = message;
+          }
+
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            // Before the reply completes, which sends the client's headers and trailers
+            if (relayedMetadata != null) {
+              relayedMetadata.setResponseTrailers(trailers);
+            }
+
+            if (!status.isOk()) {
+              reply.completeExceptionally(status.asRuntimeException(trailers));
+            } else if (response == null) {
+              reply.completeExceptionally(
+                  Status.INTERNAL
+                      .withDescription("Upstream closed the call without a reply")
+                      .asRuntimeException());
+            } else {
+              reply.complete(response);
+            }
+          }
+        },
+        relayedMetadata != null ? relayedMetadata.upstreamRequestHeaders() : new Metadata());
+    upstreamCall.request(1);
+    upstreamCall.sendMessage(request);
+    upstreamCall.halfClose();
+    return reply;
+  }
+
+  @Override
+  public String getName() {
+    return "grpc-proxy";
+  }
+}
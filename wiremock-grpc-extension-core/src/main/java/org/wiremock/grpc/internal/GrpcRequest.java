@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,11 @@ package org.wiremock.grpc.internal;
 
 import static java.util.Collections.*;
 
-import com.github.tomakehurst.wiremock.common.Encoding;
-import com.github.tomakehurst.wiremock.common.Strings;
+import com.github.tomakehurst.wiremock.common.entity.CompressionType;
+import com.github.tomakehurst.wiremock.common.entity.Entity;
+import com.github.tomakehurst.wiremock.common.entity.Format;
 import com.github.tomakehurst.wiremock.http.*;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -33,16 +35,15 @@ public class GrpcRequest implements Request {
   private final String serviceName;
   private final String methodName;
 
-  private final String body;
+  private final GrpcMessageBody body;
 
-  public GrpcRequest(
-      String scheme, String host, int port, String serviceName, String methodName, String body) {
+  public GrpcRequest(String scheme, String host, int port, GrpcContext context) {
     this.scheme = scheme;
     this.host = host;
     this.port = port;
-    this.serviceName = serviceName;
-    this.methodName = methodName;
-    this.body = body;
+    this.serviceName = context.getServiceDescriptor().getFullName();
+    this.methodName = context.getMethodDescriptor().getName();
+    this.body = new GrpcMessageBody(context);
   }
 
   @Override
@@ -132,17 +133,27 @@ public class GrpcRequest implements Request {
 
   @Override
   public byte[] getBody() {
-    return Strings.bytesFromString(body);
+    return body.getBytes();
+  }
+
+  /** The request message serialized as protobuf, as opposed to the JSON form from getBody(). */
+  public byte[] getProtobufBody() {
+    return body.getProtobufBytes();
   }
 
   @Override
   public String getBodyAsString() {
-    return body;
+    return body.getJson();
   }
 
   @Override
   public String getBodyAsBase64() {
-    return Encoding.encodeBase64(getBody());
+    return body.getBase64();
+  }
+
+  @Override
+  public Entity getBodyEntity() {
+    return new Entity(Format.JSON, StandardCharsets.UTF_8, CompressionType.NONE, body);
   }
 
   @Override
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import org.wiremock.grpc.GrpcResponseGenerator;
+
+/**
+ * Per-server settings and shared collaborators, created by the extension factory and handed down to
+ * the server factory and the call handlers it builds.
+ */
+public class GrpcSettings {
+
+  public static final int DEFAULT_MAX_AGGREGATED_MESSAGES = 10_000;
+  public static final long DEFAULT_MAX_AGGREGATED_BYTES = 64L * 1024 * 1024;
+
+  private final ResponseMessageCache responseMessageCache;
+  private final ProxyStubIndex proxyStubIndex;
+  private final JsonCodec jsonCodec;
+  private final ScheduledExecutorService delayScheduler;
+  private final boolean virtualThreads;
+  private final ClientStreamMatching clientStreamMatching;
+  private final int maxAggregatedMessages;
+  private final long maxAggregatedBytes;
+  private final Map<String, GrpcResponseGenerator> responseGenerators;
+  private final boolean lazyServices;
+  private final boolean proxyPassthrough;
+
+  private GrpcSettings(Builder builder) {
+    this.responseMessageCache = builder.responseMessageCache;
+    this.proxyStubIndex = builder.proxyStubIndex;
+    this.jsonCodec = builder.jsonCodec;
+    this.delayScheduler = builder.delayScheduler;
+    this.virtualThreads = builder.virtualThreads;
+    this.clientStreamMatching = builder.clientStreamMatching;
+    this.maxAggregatedMessages = builder.maxAggregatedMessages;
+    this.maxAggregatedBytes = builder.maxAggregatedBytes;
+    this.responseGenerators = Map.copyOf(builder.responseGenerators);
+    this.lazyServices = builder.lazyServices;
+    this.proxyPassthrough = builder.proxyPassthrough;
+  }
+
+  public static GrpcSettings defaults() {
+    return new Builder().build();
+  }
+
+  public ResponseMessageCache getResponseMessageCache() {
+    return responseMessageCache;
+  }
+
+  public ProxyStubIndex getProxyStubIndex() {
+    return proxyStubIndex;
+  }
+
+  public JsonCodec getJsonCodec() {
+    return jsonCodec;
+  }
+
+  public ScheduledExecutorService getDelayScheduler() {
+    return delayScheduler;
+  }
+
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  public ClientStreamMatching getClientStreamMatching() {
+    return clientStreamMatching;
+  }
+
+  public int getMaxAggregatedMessages() {
+    return maxAggregatedMessages;
+  }
+
+  public long getMaxAggregatedBytes() {
+    return maxAggregatedBytes;
+  }
+
+  public Map<String, GrpcResponseGenerator> getResponseGenerators() {
+    return responseGenerators;
+  }
+
+  public boolean isLazyServices() {
+    return lazyServices;
+  }
+
+  public boolean isProxyPassthrough() {
+    return proxyPassthrough;
+  }
+
+  public static class Builder {
+    private ResponseMessageCache responseMessageCache = new ResponseMessageCache();
+    private ProxyStubIndex proxyStubIndex = new ProxyStubIndex();
+    private JsonCodec jsonCodec = JsonCodec.JSON_FORMAT;
+    private ScheduledExecutorService delayScheduler = Delays.defaultScheduler();
+    private boolean virtualThreads = false;
+    private ClientStreamMatching clientStreamMatching = ClientStreamMatching.PER_MESSAGE;
+    private int maxAggregatedMessages = DEFAULT_MAX_AGGREGATED_MESSAGES;
+    private long maxAggregatedBytes = DEFAULT_MAX_AGGREGATED_BYTES;
+    private final Map<String, GrpcResponseGenerator> responseGenerators = new LinkedHashMap<>();
+    private boolean lazyServices = false;
+    private boolean proxyPassthrough = false;
+
+    public Builder setResponseMessageCache(ResponseMessageCache responseMessageCache) {
+      this.responseMessageCache =
+          Objects.requireNonNull(responseMessageCache, "responseMessageCache cannot be null");
+      return this;
+    }
+
+    public Builder setProxyStubIndex(ProxyStubIndex proxyStubIndex) {
+      this.proxyStubIndex = Objects.requireNonNull(proxyStubIndex, "proxyStubIndex cannot be null");
+      return this;
+    }
+
+    public Builder setJsonCodec(JsonCodec jsonCodec) {
+      this.jsonCodec = Objects.requireNonNull(jsonCodec, "jsonCodec cannot be null");
+      return this;
+    }
+
+    public Builder setDelayScheduler(ScheduledExecutorService delayScheduler) {
+      this.delayScheduler = Objects.requireNonNull(delayScheduler, "delayScheduler cannot be null");
+      return this;
+    }
+
+    public Builder setVirtualThreads(boolean virtualThreads) {
+      this.virtualThreads = virtualThreads;
+      return this;
+    }
+
+    public Builder setClientStreamMatching(ClientStreamMatching clientStreamMatching) {
+      this.clientStreamMatching =
+          Objects.requireNonNull(clientStreamMatching, "clientStreamMatching cannot be null");
+      return this;
+    }
+
+    public Builder setMaxAggregatedMessages(int maxAggregatedMessages) {
+      if (maxAggregatedMessages < 1) {
+        throw new IllegalArgumentException("maxAggregatedMessages must be at least 1");
+      }
+      this.maxAggregatedMessages = maxAggregatedMessages;
+      return this;
+    }
+
+    public Builder setMaxAggregatedBytes(long maxAggregatedBytes) {
+      if (maxAggregatedBytes < 1) {
+        throw new IllegalArgumentException("maxAggregatedBytes must be at least 1");
+      }
+      this.maxAggregatedBytes = maxAggregatedBytes;
+      return this;
+    }
+
+    public Builder setResponseGenerators(List<GrpcResponseGenerator> responseGenerators) {
+      this.responseGenerators.clear();
+      responseGenerators.forEach(
+          generator -> this.responseGenerators.put(generator.getName(), generator));
+      return this;
+    }
+
+    public Builder setLazyServices(boolean lazyServices) {
+      this.lazyServices = lazyServices;
+      return this;
+    }
+
+    public Builder setProxyPassthrough(boolean proxyPassthrough) {
+      this.proxyPassthrough = proxyPassthrough;
+      return this;
+    }
+
+    public GrpcSettings build() {
+      return new GrpcSettings(this);
+    }
+  }
+}
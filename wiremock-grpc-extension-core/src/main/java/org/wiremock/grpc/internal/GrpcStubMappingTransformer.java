@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2025 Thomas Akehurst
+ * Copyright (C) 2025-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,46 +15,140 @@
  */
 package org.wiremock.grpc.internal;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.common.Encoding;
 import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.StubLifecycleListener;
 import com.github.tomakehurst.wiremock.extension.StubMappingTransformer;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.matching.*;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
-public class GrpcStubMappingTransformer extends StubMappingTransformer {
+/**
+ * Rewrites the {@code binaryEqualTo} body patterns of gRPC stubs, i.e. those whose response sets a
+ * gRPC status or that already use {@link ProtoMessageRequestMatcher}, since WireMock would compare
+ * them with the JSON rendering of the request. A JSON object, as recorded, becomes an {@code
+ * equalToJson} pattern, and anything else is taken to be serialized protobuf and handed to the
+ * message matcher's {@code binaryEqualTo} parameter. Applied to recordings and to stubs as they're
+ * created or edited.
+ */
+public class GrpcStubMappingTransformer extends StubMappingTransformer
+    implements StubLifecycleListener {
   @Override
   public StubMapping transform(StubMapping stubMapping, FileSource files, Parameters parameters) {
     ResponseDefinition resp = stubMapping.getResponse();
     if (resp.getHeaders().getHeader(GrpcUtils.GRPC_STATUS_NAME) != null) {
       // when response is grpc, we need to convert the request body to json as well, the reason that
       // we cannot use request content type is because it is not set in the request pattern
-      RequestPattern req = stubMapping.getRequest();
-      RequestPattern jsonReq = convertBinaryToJson(req);
-      return stubMapping.transform(builder -> builder.setRequest(jsonReq));
+      return convertBinaryPatterns(stubMapping);
     }
     return stubMapping;
   }
 
-  private RequestPattern convertBinaryToJson(RequestPattern requestPattern) {
-    return requestPattern.transform(
-        reqBuilder -> {
-          List<ContentPattern<?>> convertedPatterns =
-              reqBuilder.getBodyPatterns().stream()
-                  .filter(body -> body instanceof BinaryEqualToPattern)
-                  .map(
-                      binaryBody -> {
-                        byte[] bytes = ((BinaryEqualToPattern) binaryBody).getValue();
-                        return new EqualToJsonPattern(
-                            new String(bytes, StandardCharsets.UTF_8), true, false);
-                      })
-                  .collect(Collectors.toList());
-
-          reqBuilder.setBodyPatterns(convertedPatterns);
-        });
+  @Override
+  public StubMapping beforeStubCreated(StubMapping stub) {
+    return isGrpcStub(stub) ? convertBinaryPatterns(stub) : stub;
+  }
+
+  @Override
+  public StubMapping beforeStubEdited(StubMapping oldStub, StubMapping newStub) {
+    return isGrpcStub(newStub) ? convertBinaryPatterns(newStub) : newStub;
+  }
+
+  private static boolean isGrpcStub(StubMapping stub) {
+    final HttpHeaders headers = stub.getResponse() != null ? stub.getResponse().getHeaders() : null;
+    if (headers != null && headers.getHeader(GrpcUtils.GRPC_STATUS_NAME).isPresent()) {
+      return true;
+    }
+
+    final RequestPattern request = stub.getRequest();
+    return request != null
+        && request.getCustomMatcher() != null
+        && ProtoMessageRequestMatcher.NAME.equals(request.getCustomMatcher().getName());
+  }
+
+  private static StubMapping convertBinaryPatterns(StubMapping stub) {
+    final RequestPattern request = stub.getRequest();
+    if (request == null
+        || request.getBodyPatterns() == null
+        || request.getBodyPatterns().stream().noneMatch(BinaryEqualToPattern.class::isInstance)) {
+      return stub;
+    }
+
+    final List<ContentPattern<?>> bodyPatterns = new ArrayList<>();
+    final List<String> protobufBytes = new ArrayList<>();
+    for (ContentPattern<?> pattern : request.getBodyPatterns()) {
+      if (!(pattern instanceof BinaryEqualToPattern binaryPattern)) {
+        bodyPatterns.add(pattern);
+        continue;
+      }
+
+      final byte[] bytes = binaryPattern.getValue();
+      // recorded bodies are the JSON rendering of the message
+      if (isJsonObject(bytes)) {
+        bodyPatterns.add(
+            new EqualToJsonPattern(new String(bytes, StandardCharsets.UTF_8), true, false));
+      } else {
+        protobufBytes.add(Encoding.encodeBase64(bytes));
+      }
+    }
+
+    final CustomMatcherDefinition matcher =
+        protobufBytes.isEmpty()
+            ? request.getCustomMatcher()
+            : withBinaryEqualTo(stub, protobufBytes);
+    final RequestPattern converted =
+        request.transform(
+            builder -> builder.setBodyPatterns(bodyPatterns).setCustomMatcherDefinition(matcher));
+    return stub.transform(builder -> builder.setRequest(converted));
+  }
+
+  private static CustomMatcherDefinition withBinaryEqualTo(
+      StubMapping stub, List<String> protobufBytes) {
+    final CustomMatcherDefinition existing = stub.getRequest().getCustomMatcher();
+    if (existing != null && !ProtoMessageRequestMatcher.NAME.equals(existing.getName())) {
+      throw new IllegalArgumentException(
+          "gRPC stub "
+              + stub.getId()
+              + " has a binaryEqualTo body pattern, which has to be matched by "
+              + ProtoMessageRequestMatcher.NAME
+              + ", but already uses the custom matcher "
+              + existing.getName());
+    }
+
+    final Map<String, Object> parameters = new LinkedHashMap<>();
+    if (existing != null && existing.getParameters() != null) {
+      parameters.putAll(existing.getParameters());
+    }
+
+    final List<Object> expected = new ArrayList<>();
+    final Object present = parameters.get(ProtoMessageRequestMatcher.BINARY_EQUAL_TO);
+    if (present instanceof List<?> list) {
+      expected.addAll(list);
+    } else if (present != null) {
+      expected.add(present);
+    }
+    expected.addAll(protobufBytes);
+    parameters.put(ProtoMessageRequestMatcher.BINARY_EQUAL_TO, expected);
+
+    return new CustomMatcherDefinition(
+        ProtoMessageRequestMatcher.NAME, Parameters.from(parameters));
+  }
+
+  private static boolean isJsonObject(byte[] bytes) {
+    try {
+      return Json.read(bytes, JsonNode.class).isObject();
+    } catch (Exception e) {
+      return false;
+    }
   }
 
   @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2025 Thomas Akehurst
+ * Copyright (C) 2025-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,147 +15,201 @@
  */
 package org.wiremock.grpc.internal;
 
-import static com.github.tomakehurst.wiremock.common.Pair.pair;
-
-import com.github.tomakehurst.wiremock.common.Pair;
 import com.github.tomakehurst.wiremock.http.StubRequestHandler;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
 import com.google.protobuf.TypeRegistry;
-import io.grpc.BindableService;
 import io.grpc.MethodDescriptor;
-import io.grpc.ServerBuilder;
 import io.grpc.ServerCallHandler;
-import io.grpc.ServerInterceptor;
-import io.grpc.ServerInterceptors;
+import io.grpc.ServerMethodDefinition;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.ServiceDescriptor;
 import io.grpc.protobuf.ProtoServiceDescriptorSupplier;
 import io.grpc.protobuf.ProtoUtils;
-import io.grpc.protobuf.services.ProtoReflectionServiceV1;
 import io.grpc.stub.ServerCalls;
 import java.util.List;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 public class GrpcUtils {
   public static final String GRPC_STATUS_NAME = "grpc-status-name";
   public static final String GRPC_STATUS_REASON = "grpc-status-reason";
 
-  public static <T extends ServerBuilder<T>> T buildAndBindServices(
-      T serverBuilder,
-      List<Descriptors.FileDescriptor> fileDescriptors,
-      StubRequestHandler stubRequestHandler,
-      List<ServerInterceptor> interceptors,
-      Supplier<ServerAddress> serverAddressSupplier) {
-    List<BindableService> services =
-        buildServices(fileDescriptors, stubRequestHandler, serverAddressSupplier);
-    final HeaderCopyingServerInterceptor headerCopyingServerInterceptor =
-        new HeaderCopyingServerInterceptor();
-    services.forEach(
-        service ->
-            serverBuilder.addService(
-                ServerInterceptors.intercept(
-                    ServerInterceptors.intercept(service, headerCopyingServerInterceptor),
-                    interceptors)));
-    return serverBuilder;
-  }
-
-  private static List<BindableService> buildServices(
-      List<Descriptors.FileDescriptor> fileDescriptors,
-      StubRequestHandler stubRequestHandler,
-      Supplier<ServerAddress> serverAddressSupplier) {
+  static JsonMessageConverter buildJsonMessageConverter(
+      List<Descriptors.FileDescriptor> fileDescriptors, GrpcSettings settings) {
     final TypeRegistry.Builder typeRegistryBuilder = TypeRegistry.newBuilder();
     fileDescriptors.forEach(
         fileDescriptor -> fileDescriptor.getMessageTypes().forEach(typeRegistryBuilder::add));
     final TypeRegistry typeRegistry = typeRegistryBuilder.build();
-    JsonMessageConverter jsonMessageConverter = new JsonMessageConverter(typeRegistry);
-
-    final Stream<BindableService> servicesFromDescriptors =
-        fileDescriptors.stream()
-            .flatMap(
-                fileDescriptor ->
-                    fileDescriptor.getServices().stream()
-                        .map(service -> pair(fileDescriptor, service)))
+    // With lazy services, codecs are only prepared for the message types that get used
+    return settings
+        .getJsonCodec()
+        .newConverter(typeRegistry, settings.isLazyServices() ? List.of() : fileDescriptors);
+  }
+
+  static ServerServiceDefinition buildService(
+      Descriptors.FileDescriptor fileDescriptor,
+      Descriptors.ServiceDescriptor serviceDescriptor,
+      StubRequestHandler stubRequestHandler,
+      Supplier<JsonMessageConverter> jsonMessageConverterSupplier,
+      Supplier<ServerAddress> serverAddressSupplier,
+      GrpcSettings settings) {
+    final ServiceDescriptor.Builder serviceDescriptorBuilder =
+        ServiceDescriptor.newBuilder(serviceDescriptor.getFullName())
+            .setSchemaDescriptor(
+                new ProtoServiceDescriptorSupplier() {
+
+                  @Override
+                  public Descriptors.FileDescriptor getFileDescriptor() {
+                    return fileDescriptor;
+                  }
+
+                  @Override
+                  public Descriptors.ServiceDescriptor getServiceDescriptor() {
+                    return serviceDescriptor;
+                  }
+                });
+
+    final List<ServerMethodDefinition<DynamicMessage, DynamicMessage>> methods =
+        serviceDescriptor.getMethods().stream()
             .map(
-                fileAndServiceDescriptor ->
-                    () -> {
-                      final Descriptors.FileDescriptor fileDescriptor = fileAndServiceDescriptor.a;
-                      final Descriptors.ServiceDescriptor serviceDescriptor =
-                          fileAndServiceDescriptor.b;
-                      final ServiceDescriptor.Builder serviceDescriptorBuilder =
-                          ServiceDescriptor.newBuilder(serviceDescriptor.getFullName())
-                              .setSchemaDescriptor(
-                                  new ProtoServiceDescriptorSupplier() {
-
-                                    @Override
-                                    public Descriptors.FileDescriptor getFileDescriptor() {
-                                      return fileDescriptor;
-                                    }
-
-                                    @Override
-                                    public Descriptors.ServiceDescriptor getServiceDescriptor() {
-                                      return serviceDescriptor;
-                                    }
-                                  });
-
-                      final List<
-                              Pair<
-                                  MethodDescriptor<DynamicMessage, DynamicMessage>,
-                                  ServerCallHandler<DynamicMessage, DynamicMessage>>>
-                          methodDescriptorHandlerPairs =
-                              serviceDescriptor.getMethods().stream()
-                                  .map(
-                                      methodDescriptor ->
-                                          pair(
-                                              buildMessageDescriptorInstance(
-                                                  serviceDescriptor, methodDescriptor),
-                                              buildHandler(
-                                                  stubRequestHandler,
-                                                  serviceDescriptor,
-                                                  methodDescriptor,
-                                                  jsonMessageConverter,
-                                                  serverAddressSupplier)))
-                                  .toList();
-
-                      methodDescriptorHandlerPairs.stream()
-                          .map(pair -> pair.a)
-                          .forEach(serviceDescriptorBuilder::addMethod);
-
-                      final ServerServiceDefinition.Builder builder =
-                          ServerServiceDefinition.builder(serviceDescriptorBuilder.build());
-
-                      methodDescriptorHandlerPairs.forEach(
-                          pair -> builder.addMethod(pair.a, pair.b));
-
-                      return builder.build();
-                    });
-
-    final BindableService reflectionService = ProtoReflectionServiceV1.newInstance();
-    return Stream.concat(servicesFromDescriptors, Stream.of(reflectionService)).toList();
+                methodDescriptor ->
+                    buildMethod(
+                        serviceDescriptor,
+                        methodDescriptor,
+                        stubRequestHandler,
+                        jsonMessageConverterSupplier,
+                        serverAddressSupplier,
+                        settings))
+            .toList();
+
+    methods.stream()
+        .map(ServerMethodDefinition::getMethodDescriptor)
+        .forEach(serviceDescriptorBuilder::addMethod);
+
+    final ServerServiceDefinition.Builder builder =
+        ServerServiceDefinition.builder(serviceDescriptorBuilder.build());
+
+    methods.forEach(builder::addMethod);
+
+    return builder.build();
+  }
+
+  static ServerMethodDefinition<DynamicMessage, DynamicMessage> buildMethod(
+      Descriptors.ServiceDescriptor serviceDescriptor,
+      Descriptors.MethodDescriptor methodDescriptor,
+      StubRequestHandler stubRequestHandler,
+      Supplier<JsonMessageConverter> jsonMessageConverterSupplier,
+      Supplier<ServerAddress> serverAddressSupplier,
+      GrpcSettings settings) {
+    return ServerMethodDefinition.create(
+        buildServerMethodDescriptor(serviceDescriptor, methodDescriptor, settings),
+        buildHandler(
+            stubRequestHandler,
+            serviceDescriptor,
+            methodDescriptor,
+            jsonMessageConverterSupplier,
+            serverAddressSupplier,
+            settings));
   }
 
   private static ServerCallHandler<DynamicMessage, DynamicMessage> buildHandler(
       StubRequestHandler stubRequestHandler,
       Descriptors.ServiceDescriptor serviceDescriptor,
       Descriptors.MethodDescriptor methodDescriptor,
-      JsonMessageConverter jsonMessageConverter,
-      Supplier<ServerAddress> serverAddressSupplier) {
-    return methodDescriptor.isClientStreaming()
-        ? ServerCalls.asyncClientStreamingCall(
-            new ClientStreamingServerCallHandler(
-                stubRequestHandler,
-                serviceDescriptor,
-                methodDescriptor,
-                jsonMessageConverter,
-                serverAddressSupplier))
-        : ServerCalls.asyncUnaryCall(
-            new UnaryServerCallHandler(
-                stubRequestHandler,
-                serviceDescriptor,
-                methodDescriptor,
-                jsonMessageConverter,
-                serverAddressSupplier));
+      Supplier<JsonMessageConverter> jsonMessageConverterSupplier,
+      Supplier<ServerAddress> serverAddressSupplier,
+      GrpcSettings settings) {
+    if (methodDescriptor.isClientStreaming() && methodDescriptor.isServerStreaming()) {
+      return ServerCalls.asyncBidiStreamingCall(
+          new BidiStreamingServerCallHandler(
+              stubRequestHandler,
+              serviceDescriptor,
+              methodDescriptor,
+              jsonMessageConverterSupplier,
+              serverAddressSupplier,
+              settings));
+    }
+
+    if (methodDescriptor.isClientStreaming()) {
+      return ServerCalls.asyncClientStreamingCall(
+          new ClientStreamingServerCallHandler(
+              stubRequestHandler,
+              serviceDescriptor,
+              methodDescriptor,
+              jsonMessageConverterSupplier,
+              serverAddressSupplier,
+              settings));
+    }
+
+    if (methodDescriptor.isServerStreaming()) {
+      return ServerCalls.asyncServerStreamingCall(
+          new ServerStreamingServerCallHandler(
+              stubRequestHandler,
+              serviceDescriptor,
+              methodDescriptor,
+              jsonMessageConverterSupplier,
+              serverAddressSupplier,
+              settings));
+    }
+
+    return ServerCalls.asyncUnaryCall(
+        new UnaryServerCallHandler(
+            stubRequestHandler,
+            serviceDescriptor,
+            methodDescriptor,
+            jsonMessageConverterSupplier,
+            serverAddressSupplier,
+            settings));
+  }
+
+  private static MethodDescriptor<DynamicMessage, DynamicMessage> buildServerMethodDescriptor(
+      Descriptors.ServiceDescriptor serviceDescriptor,
+      Descriptors.MethodDescriptor methodDescriptor,
+      GrpcSettings settings) {
+    MethodDescriptor<DynamicMessage, DynamicMessage> grpcMethodDescriptor =
+        buildMessageDescriptorInstance(serviceDescriptor, methodDescriptor);
+    // Requests proxied through untouched are only decoded if matching needs them
+    if (settings.isProxyPassthrough()
+        || (methodDescriptor.isClientStreaming() && !methodDescriptor.isServerStreaming())) {
+      grpcMethodDescriptor =
+          grpcMethodDescriptor.toBuilder()
+              .setRequestMarshaller(
+                  new DeferredMessageMarshaller(grpcMethodDescriptor.getRequestMarshaller()))
+              .build();
+    }
+
+    if (!settings.isProxyPassthrough() && !settings.getResponseMessageCache().isPreSerialize()) {
+      return grpcMethodDescriptor;
+    }
+
+    // So that upstream replies, which are never decoded, and cached responses that were serialized
+    // up front are written out as they are
+    return grpcMethodDescriptor.toBuilder()
+        .setResponseMarshaller(
+            new DeferredMessageMarshaller(grpcMethodDescriptor.getResponseMarshaller()))
+        .build();
+  }
+
+  /**
+   * The descriptor for calling a method on an upstream server that calls are proxied to. Messages
+   * received still serialized are sent on as they are. With passthrough, replies are left
+   * serialized too, to be written back to the client without being decoded.
+   */
+  public static MethodDescriptor<DynamicMessage, DynamicMessage> buildUpstreamMethodDescriptor(
+      Descriptors.ServiceDescriptor serviceDescriptor,
+      Descriptors.MethodDescriptor methodDescriptor,
+      boolean passthrough) {
+    final MethodDescriptor<DynamicMessage, DynamicMessage> grpcMethodDescriptor =
+        buildMessageDescriptorInstance(serviceDescriptor, methodDescriptor);
+    final MethodDescriptor.Builder<DynamicMessage, DynamicMessage> builder =
+        grpcMethodDescriptor.toBuilder()
+            .setRequestMarshaller(
+                new DeferredMessageMarshaller(grpcMethodDescriptor.getRequestMarshaller()));
+    if (passthrough) {
+      builder.setResponseMarshaller(
+          new DeferredMessageMarshaller(grpcMethodDescriptor.getResponseMarshaller()));
+    }
+    return builder.build();
   }
 
   public static MethodDescriptor<DynamicMessage, DynamicMessage> buildMessageDescriptorInstance(
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024-2025 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,16 +15,13 @@
  */
 package org.wiremock.grpc.internal;
 
-import static io.grpc.Metadata.ASCII_STRING_MARSHALLER;
-import static io.grpc.Metadata.BINARY_BYTE_MARSHALLER;
-
-import com.github.tomakehurst.wiremock.http.HttpHeader;
 import com.github.tomakehurst.wiremock.http.HttpHeaders;
 import io.grpc.*;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * Makes the request headers available to the call's handler, and sends back any upstream response
+ * metadata that a proxied call has handed to its {@link RelayedMetadata}.
+ */
 public class HeaderCopyingServerInterceptor implements ServerInterceptor {
 
   public static final Context.Key<HttpHeaders> HTTP_HEADERS_CONTEXT_KEY =
@@ -33,29 +30,28 @@ public class HeaderCopyingServerInterceptor implements ServerInterceptor {
   @Override
   public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
       ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
-    final HttpHeaders httpHeaders = buildHttpHeaders(headers);
-    Context newContext = Context.current().withValue(HTTP_HEADERS_CONTEXT_KEY, httpHeaders);
-    return Contexts.interceptCall(newContext, call, headers, next);
-  }
+    final HttpHeaders httpHeaders = new MetadataHttpHeaders(headers);
+    final RelayedMetadata relayedMetadata = new RelayedMetadata(headers);
+    Context newContext =
+        Context.current()
+            .withValue(HTTP_HEADERS_CONTEXT_KEY, httpHeaders)
+            .withValue(RelayedMetadata.CONTEXT_KEY, relayedMetadata);
+    return Contexts.interceptCall(
+        newContext,
+        new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+          @Override
+          public void sendHeaders(Metadata responseHeaders) {
+            relayedMetadata.mergeHeadersInto(responseHeaders);
+            super.sendHeaders(responseHeaders);
+          }
 
-  private static HttpHeaders buildHttpHeaders(Metadata metadata) {
-    final List<HttpHeader> httpHeaderList =
-        metadata.keys().stream()
-            .map(
-                key -> {
-                  if (key.endsWith("-bin")) {
-                    // Use the binary marshaller for binary headers
-                    return new HttpHeader(
-                        key,
-                        Arrays.toString(
-                            metadata.get(Metadata.Key.of(key, BINARY_BYTE_MARSHALLER))));
-                  } else {
-                    // Use ASCII marshaller for normal headers
-                    return new HttpHeader(
-                        key, metadata.get(Metadata.Key.of(key, ASCII_STRING_MARSHALLER)));
-                  }
-                })
-            .collect(Collectors.toList());
-    return new HttpHeaders(httpHeaderList);
+          @Override
+          public void close(Status status, Metadata trailers) {
+            relayedMetadata.mergeTrailersInto(trailers);
+            super.close(status, trailers);
+          }
+        },
+        headers,
+        next);
   }
 }
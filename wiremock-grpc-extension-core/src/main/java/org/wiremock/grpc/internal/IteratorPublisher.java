@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.google.protobuf.DynamicMessage;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+
+/**
+ * Publishes the messages of an iterator synchronously, as they're requested. The response stream
+ * pulls from the iterator directly rather than subscribing, so this only matters to other
+ * subscribers.
+ */
+public class IteratorPublisher implements Flow.Publisher<DynamicMessage> {
+
+  private final Iterator<DynamicMessage> messages;
+
+  public IteratorPublisher(Iterator<DynamicMessage> messages) {
+    this.messages = messages;
+  }
+
+  public Iterator<DynamicMessage> getMessages() {
+    return messages;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super DynamicMessage> subscriber) {
+    subscriber.onSubscribe(
+        new Flow.Subscription() {
+          private long demand;
+          private boolean emitting;
+          private boolean done;
+
+          @Override
+          public synchronized void request(long n) {
+            if (n <= 0) {
+              done = true;
+              subscriber.onError(new IllegalArgumentException("Requested " + n + " messages"));
+              return;
+            }
+
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            if (emitting) {
+              return;
+            }
+
+            emitting = true;
+            try {
+              while (demand > 0 && !done) {
+                if (!messages.hasNext()) {
+                  done = true;
+                  subscriber.onComplete();
+                  return;
+                }
+                demand--;
+                subscriber.onNext(messages.next());
+              }
+            } catch (RuntimeException e) {
+              done = true;
+              subscriber.onError(e);
+            } finally {
+              emitting = false;
+            }
+          }
+
+          @Override
+          public synchronized void cancel() {
+            done = true;
+          }
+        });
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.TypeRegistry;
+import java.util.List;
+
+/** The implementation used to convert between protobuf messages and their JSON form. */
+public enum JsonCodec {
+
+  /** Protobuf's own {@code JsonFormat} printer and parser. */
+  JSON_FORMAT {
+    @Override
+    public JsonMessageConverter newConverter(
+        TypeRegistry typeRegistry, List<Descriptors.FileDescriptor> fileDescriptors) {
+      return new JsonMessageConverter(typeRegistry);
+    }
+  },
+
+  /** Jackson streaming encoders/decoders built per message descriptor when descriptors load. */
+  JACKSON_STREAMING {
+    @Override
+    public JsonMessageConverter newConverter(
+        TypeRegistry typeRegistry, List<Descriptors.FileDescriptor> fileDescriptors) {
+      return new StreamingJsonMessageConverter(typeRegistry, fileDescriptors);
+    }
+  };
+
+  public abstract JsonMessageConverter newConverter(
+      TypeRegistry typeRegistry, List<Descriptors.FileDescriptor> fileDescriptors);
+}
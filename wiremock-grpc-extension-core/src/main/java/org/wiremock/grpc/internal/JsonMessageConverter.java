@@ -15,11 +15,15 @@
  */
 package org.wiremock.grpc.internal;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.github.tomakehurst.wiremock.common.Exceptions;
+import com.github.tomakehurst.wiremock.common.Json;
 import com.google.protobuf.Message;
 import com.google.protobuf.MessageOrBuilder;
 import com.google.protobuf.TypeRegistry;
 import com.google.protobuf.util.JsonFormat;
+import java.io.StringWriter;
 
 public class JsonMessageConverter {
 
@@ -40,4 +44,19 @@ public class JsonMessageConverter {
     Exceptions.uncheck(() -> jsonParser.merge(json, builder));
     return (T) builder.build();
   }
+
+  /**
+   * Reads the message value the parser is positioned on, leaving the parser on its last token. The
+   * value is copied out token by token, without building an intermediate tree.
+   */
+  public <T extends Message, B extends Message.Builder> T toMessage(JsonParser parser, B builder) {
+    final StringWriter json = new StringWriter();
+    Exceptions.uncheck(
+        () -> {
+          try (JsonGenerator generator = Json.getObjectMapper().createGenerator(json)) {
+            generator.copyCurrentStructure(parser);
+          }
+        });
+    return toMessage(json.toString(), builder);
+  }
 }
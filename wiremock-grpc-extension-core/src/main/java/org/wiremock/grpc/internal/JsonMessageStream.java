@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.tomakehurst.wiremock.common.Exceptions;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over a JSON array of response messages, converting each element to protobuf only when
+ * it's asked for, so that a long stream is never held in memory as messages all at once.
+ */
+public class JsonMessageStream implements Iterator<DynamicMessage> {
+
+  private final JsonParser parser;
+  private final Descriptors.Descriptor messageType;
+  private final JsonMessageConverter jsonMessageConverter;
+
+  private JsonToken nextToken;
+
+  public JsonMessageStream(
+      String json, Descriptors.Descriptor messageType, JsonMessageConverter jsonMessageConverter) {
+    this.messageType = messageType;
+    this.jsonMessageConverter = jsonMessageConverter;
+    this.parser = Exceptions.uncheck(() -> Json.getObjectMapper().createParser(json));
+
+    final JsonToken start = Exceptions.uncheck(parser::nextToken);
+    if (start != JsonToken.START_ARRAY) {
+      throw new IllegalArgumentException("Expected a JSON array of messages but got: " + start);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextToken == null) {
+      nextToken = Exceptions.uncheck(parser::nextToken);
+    }
+    return nextToken != null && nextToken != JsonToken.END_ARRAY;
+  }
+
+  @Override
+  public DynamicMessage next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    nextToken = null;
+    return jsonMessageConverter.toMessage(parser, DynamicMessage.newBuilder(messageType));
+  }
+}
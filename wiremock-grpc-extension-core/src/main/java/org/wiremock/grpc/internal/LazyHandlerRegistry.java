@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.google.protobuf.Descriptors;
+import io.grpc.HandlerRegistry;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A fallback {@link HandlerRegistry} that resolves methods from the loaded file descriptors when
+ * they're first called, building their handlers then and keeping them for later calls. Only the
+ * service lookup table is built up front. Methods already built for services whose descriptors
+ * survive a reload unchanged are carried over to the new registry.
+ */
+public class LazyHandlerRegistry extends HandlerRegistry {
+
+  private final Map<String, Descriptors.ServiceDescriptor> servicesByName = new HashMap<>();
+  private final Map<Descriptors.MethodDescriptor, ServerMethodDefinition<?, ?>> methods =
+      new ConcurrentHashMap<>();
+  private final Function<Descriptors.MethodDescriptor, ServerMethodDefinition<?, ?>> methodBuilder;
+
+  public LazyHandlerRegistry(
+      List<Descriptors.FileDescriptor> fileDescriptors,
+      Function<Descriptors.MethodDescriptor, ServerMethodDefinition<?, ?>> methodBuilder,
+      LazyHandlerRegistry previous) {
+    this.methodBuilder = methodBuilder;
+    fileDescriptors.forEach(
+        fileDescriptor ->
+            fileDescriptor
+                .getServices()
+                .forEach(service -> servicesByName.put(service.getFullName(), service)));
+
+    if (previous != null) {
+      previous.methods.forEach(
+          (methodDescriptor, method) -> {
+            final Descriptors.ServiceDescriptor service = methodDescriptor.getService();
+            if (servicesByName.get(service.getFullName()) == service) {
+              methods.put(methodDescriptor, method);
+            }
+          });
+    }
+  }
+
+  @Override
+  public ServerMethodDefinition<?, ?> lookupMethod(String methodName, String authority) {
+    final String serviceName = MethodDescriptor.extractFullServiceName(methodName);
+    final Descriptors.ServiceDescriptor service =
+        serviceName != null ? servicesByName.get(serviceName) : null;
+    if (service == null) {
+      return null;
+    }
+
+    final Descriptors.MethodDescriptor methodDescriptor =
+        service.findMethodByName(methodName.substring(serviceName.length() + 1));
+    if (methodDescriptor == null) {
+      return null;
+    }
+
+    return methods.computeIfAbsent(methodDescriptor, methodBuilder);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import static io.grpc.Metadata.ASCII_STRING_MARSHALLER;
+import static io.grpc.Metadata.BINARY_BYTE_MARSHALLER;
+
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import io.grpc.Metadata;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A read-only {@link HttpHeaders} view over the gRPC request {@link Metadata}. Values are only
+ * decoded when a header is looked up, and then cached, so calls whose stubs never look at headers
+ * don't pay for decoding every tracing and auth header the client sent.
+ */
+public class MetadataHttpHeaders extends HttpHeaders {
+
+  private final Metadata metadata;
+  private final Map<String, HttpHeader> decodedHeaders = new ConcurrentHashMap<>();
+
+  private volatile Set<String> keys;
+
+  public MetadataHttpHeaders(Metadata metadata) {
+    this.metadata = metadata;
+  }
+
+  @Override
+  public HttpHeader getHeader(String key) {
+    final String name = key.toLowerCase(Locale.ROOT);
+    if (!keys().contains(name)) {
+      return HttpHeader.absent(key);
+    }
+
+    final HttpHeader decoded = decodedHeaders.computeIfAbsent(name, this::decode);
+    return decoded.key().equals(key) ? decoded : new HttpHeader(key, decoded.values());
+  }
+
+  private HttpHeader decode(String name) {
+    if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+      return new HttpHeader(
+          name, Arrays.toString(metadata.get(Metadata.Key.of(name, BINARY_BYTE_MARSHALLER))));
+    }
+
+    return new HttpHeader(name, metadata.get(Metadata.Key.of(name, ASCII_STRING_MARSHALLER)));
+  }
+
+  @Override
+  public Collection<HttpHeader> all() {
+    return keys().stream().map(this::getHeader).toList();
+  }
+
+  @Override
+  public Set<String> keys() {
+    Set<String> result = keys;
+    if (result == null) {
+      result = Collections.unmodifiableSet(new LinkedHashSet<>(metadata.keys()));
+      keys = result;
+    }
+    return result;
+  }
+
+  @Override
+  public int size() {
+    return keys().size();
+  }
+
+  @Override
+  public HttpHeaders transform(Consumer<Builder> transformer) {
+    return copyOf(this).transform(transformer);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof HttpHeaders && copyOf(this).equals(copyOf((HttpHeaders) o));
+  }
+
+  @Override
+  public int hashCode() {
+    return copyOf(this).hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return copyOf(this).toString();
+  }
+}
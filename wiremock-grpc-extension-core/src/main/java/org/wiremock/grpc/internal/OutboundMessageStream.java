@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.google.protobuf.DynamicMessage;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends sequences of response messages only as fast as the client's flow control allows. Writing
+ * stops whenever the call's outbound buffer is full and resumes from the on-ready callback, so the
+ * messages are pulled from their source one at a time rather than queued up in the transport.
+ *
+ * <p>Sequences are sent in the order they're added, and the call completes once it has been closed
+ * and every sequence it was told to expect has been written.
+ */
+public class OutboundMessageStream {
+
+  private final ServerCallStreamObserver<DynamicMessage> observer;
+  private final CallCancellation cancellation;
+  private final Queue<MessageSource> sources = new ArrayDeque<>();
+
+  private int expected;
+  private boolean closed;
+  private boolean finished;
+  private boolean draining;
+
+  private OutboundMessageStream(
+      ServerCallStreamObserver<DynamicMessage> observer, CallCancellation cancellation) {
+    this.observer = observer;
+    this.cancellation = cancellation;
+  }
+
+  /** Must be called from the method invocation, before it returns, for the handler to register. */
+  public static OutboundMessageStream attach(
+      StreamObserver<DynamicMessage> responseObserver, CallCancellation cancellation) {
+    final ServerCallStreamObserver<DynamicMessage> serverCallObserver =
+        (ServerCallStreamObserver<DynamicMessage>) responseObserver;
+    final OutboundMessageStream stream =
+        new OutboundMessageStream(serverCallObserver, cancellation);
+    serverCallObserver.setOnReadyHandler(stream::drain);
+    return stream;
+  }
+
+  /** Sends the messages as the only response on the call, completing it once they're written. */
+  public synchronized void start(Flow.Publisher<DynamicMessage> messages) {
+    expect();
+    close();
+    add(messages);
+  }
+
+  /** Holds the call open for a sequence that will be added later, e.g. after a delay. */
+  public synchronized void expect() {
+    expected++;
+  }
+
+  /** Adds a sequence that was previously expected. */
+  public synchronized void add(Flow.Publisher<DynamicMessage> messages) {
+    if (finished) {
+      return;
+    }
+
+    // Subscribing can call back into drain(), so the sequence has to stay expected until it's added
+    final MessageSource source =
+        messages instanceof IteratorPublisher iteratorPublisher
+            ? new IteratorSource(iteratorPublisher.getMessages())
+            : new PublisherSource(messages);
+    expected--;
+    sources.add(source);
+    drain();
+  }
+
+  /** Indicates that no more sequences will be expected, so the call can complete. */
+  public synchronized void close() {
+    closed = true;
+    drain();
+  }
+
+  /** Ends the call straight away with the given error reply, unless it has already finished. */
+  public synchronized void fail(Runnable errorReply) {
+    if (!finished) {
+      finish();
+      errorReply.run();
+    }
+  }
+
+  private synchronized void drain() {
+    // Publishers may deliver from within a request, in which case the loop below picks it up
+    if (finished || draining) {
+      return;
+    }
+
+    draining = true;
+    try {
+      while (observer.isReady() && !sources.isEmpty()) {
+        if (cancellation.isCancelled()) {
+          finish();
+          return;
+        }
+
+        final MessageSource source = sources.peek();
+        final DynamicMessage message = source.poll();
+        if (message != null) {
+          observer.onNext(message);
+        } else if (source.isExhausted()) {
+          sources.remove();
+          if (source.error() != null) {
+            throw source.error();
+          }
+        } else {
+          // Waiting on an asynchronous publisher, which drains again when it delivers
+          return;
+        }
+      }
+
+      while (!sources.isEmpty() && sources.peek().isExhausted() && sources.peek().error() == null) {
+        sources.remove();
+      }
+
+      if (closed && expected == 0 && sources.isEmpty()) {
+        finished = true;
+        observer.onCompleted();
+      }
+    } catch (RuntimeException e) {
+      finish();
+      if (cancellation.isCancelled()) {
+        return;
+      }
+      // A status from the source, such as a proxied call's upstream, is passed on as it is
+      observer.onError(
+          e instanceof StatusRuntimeException statusException
+              ? statusException
+              : Status.INTERNAL
+                  .withDescription("Failed to produce response message: " + e.getMessage())
+                  .withCause(e)
+                  .asRuntimeException());
+    } finally {
+      draining = false;
+    }
+  }
+
+  private void finish() {
+    finished = true;
+    sources.forEach(MessageSource::cancel);
+    sources.clear();
+  }
+
+  private interface MessageSource {
+
+    /** The next message if one is available now, otherwise null. */
+    DynamicMessage poll();
+
+    boolean isExhausted();
+
+    RuntimeException error();
+
+    void cancel();
+  }
+
+  private static class IteratorSource implements MessageSource {
+    private final Iterator<DynamicMessage> messages;
+
+    IteratorSource(Iterator<DynamicMessage> messages) {
+      this.messages = messages;
+    }
+
+    @Override
+    public DynamicMessage poll() {
+      return messages.hasNext() ? messages.next() : null;
+    }
+
+    @Override
+    public boolean isExhausted() {
+      return !messages.hasNext();
+    }
+
+    @Override
+    public RuntimeException error() {
+      return null;
+    }
+
+    @Override
+    public void cancel() {}
+  }
+
+  /** Requests one message at a time from a publisher, whenever the previous one has been sent. */
+  private class PublisherSource implements MessageSource, Flow.Subscriber<DynamicMessage> {
+    private final Queue<DynamicMessage> received = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    private volatile Flow.Subscription subscription;
+    private volatile boolean complete;
+    private volatile RuntimeException error;
+
+    PublisherSource(Flow.Publisher<DynamicMessage> publisher) {
+      publisher.subscribe(this);
+    }
+
+    @Override
+    public DynamicMessage poll() {
+      final DynamicMessage message = received.poll();
+      if (message != null
+          || complete
+          || subscription == null
+          || !requested.compareAndSet(false, true)) {
+        return message;
+      }
+
+      subscription.request(1);
+      return received.poll();
+    }
+
+    @Override
+    public boolean isExhausted() {
+      return complete && received.isEmpty();
+    }
+
+    @Override
+    public RuntimeException error() {
+      return error;
+    }
+
+    @Override
+    public void cancel() {
+      final Flow.Subscription current = subscription;
+      if (current != null) {
+        current.cancel();
+      }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      drain();
+    }
+
+    @Override
+    public void onNext(DynamicMessage message) {
+      received.add(message);
+      requested.set(false);
+      drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error =
+          throwable instanceof RuntimeException runtimeException
+              ? runtimeException
+              : new IllegalStateException(throwable);
+      complete = true;
+      drain();
+    }
+
+    @Override
+    public void onComplete() {
+      complete = true;
+      drain();
+    }
+  }
+}
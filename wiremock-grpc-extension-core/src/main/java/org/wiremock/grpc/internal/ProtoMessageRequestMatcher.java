@@ -0,0 +1,320 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.common.Encoding;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.StubLifecycleListener;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.matching.MatchResult;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.matching.CustomMatcherDefinition;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Matches gRPC requests by evaluating field conditions directly against the decoded request
+ * message, so stubs using it never need the request printed to JSON and re-parsed per stub.
+ * Byte-equal stubs compare the serialized protobuf form of the message instead, given as one or a
+ * list of base64 strings under {@code binaryEqualTo}. For an aggregated client stream the field
+ * conditions must all hold for one of its messages.
+ *
+ * <p>Compiled parameters are dropped with the stub they came from, and beyond a bound the least
+ * recently used of a sample are evicted, in the same way as {@link ResponseMessageCache}.
+ */
+public class ProtoMessageRequestMatcher extends RequestMatcherExtension
+    implements StubLifecycleListener {
+
+  public static final String NAME = "grpc-message-matcher";
+
+  public static final String FIELDS = "fields";
+  public static final String PATH = "path";
+  public static final String MATCHES = "matches";
+  public static final String CONTAINS = "contains";
+  public static final String ONEOF_CASE = "oneofCase";
+  public static final String BINARY_EQUAL_TO = "binaryEqualTo";
+
+  private static final int MAX_COMPILED_PARAMETERS = 1024;
+  private static final int EVICTION_SAMPLE_SIZE = 8;
+
+  private final Map<Parameters, CompiledEntry> compiledParameters = new ConcurrentHashMap<>();
+  private final AtomicLong clock = new AtomicLong();
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public MatchResult match(Request request, Parameters parameters) {
+    final CompiledParameters compiled = compile(parameters);
+    final Optional<GrpcMessageBody> body = GrpcMessageBody.from(request);
+    if (body.isEmpty()) {
+      // Only gRPC requests have a message to match
+      return MatchResult.noMatch();
+    }
+
+    if (!compiled.expectedBytes().isEmpty()) {
+      final byte[] actual = body.get().getProtobufBytes();
+      for (byte[] expected : compiled.expectedBytes()) {
+        if (!Arrays.equals(actual, expected)) {
+          return MatchResult.noMatch();
+        }
+      }
+    }
+
+    final List<FieldCondition> conditions = compiled.conditions();
+    if (conditions.isEmpty()) {
+      return MatchResult.exactMatch();
+    }
+
+    final JsonMessageConverter converter = body.get().getContext().getJsonMessageConverter();
+    MatchResult closest = MatchResult.noMatch();
+    for (Message message : body.get().getMessages()) {
+      final MatchResult result =
+          MatchResult.aggregate(
+              conditions.stream().map(condition -> condition.match(message, converter)).toList());
+      if (result.isExactMatch()) {
+        return result;
+      }
+      if (result.getDistance() < closest.getDistance()) {
+        closest = result;
+      }
+    }
+    return closest;
+  }
+
+  private CompiledParameters compile(Parameters parameters) {
+    final CompiledEntry cached = compiledParameters.get(parameters);
+    if (cached != null) {
+      cached.lastUsed = clock.incrementAndGet();
+      return cached.compiled;
+    }
+
+    final CompiledEntry entry =
+        compiledParameters.computeIfAbsent(
+            parameters,
+            params -> new CompiledEntry(CompiledParameters.from(params), clock.incrementAndGet()));
+    evictIfFull();
+    return entry.compiled;
+  }
+
+  private void evictIfFull() {
+    while (compiledParameters.size() > MAX_COMPILED_PARAMETERS) {
+      Map.Entry<Parameters, CompiledEntry> eldest = null;
+      final Iterator<Map.Entry<Parameters, CompiledEntry>> sample =
+          compiledParameters.entrySet().iterator();
+      for (int i = 0; i < EVICTION_SAMPLE_SIZE && sample.hasNext(); i++) {
+        final Map.Entry<Parameters, CompiledEntry> candidate = sample.next();
+        if (eldest == null || candidate.getValue().lastUsed < eldest.getValue().lastUsed) {
+          eldest = candidate;
+        }
+      }
+
+      if (eldest == null) {
+        return;
+      }
+      compiledParameters.remove(eldest.getKey(), eldest.getValue());
+    }
+  }
+
+  @Override
+  public void afterStubEdited(StubMapping oldStub, StubMapping newStub) {
+    evict(oldStub);
+  }
+
+  @Override
+  public void afterStubRemoved(StubMapping stub) {
+    evict(stub);
+  }
+
+  @Override
+  public void afterStubsReset() {
+    compiledParameters.clear();
+  }
+
+  private void evict(StubMapping stub) {
+    final CustomMatcherDefinition matcher =
+        stub.getRequest() == null ? null : stub.getRequest().getCustomMatcher();
+    if (matcher != null && NAME.equals(matcher.getName()) && matcher.getParameters() != null) {
+      compiledParameters.remove(matcher.getParameters());
+    }
+  }
+
+  private static List<byte[]> decodeBinaryEqualTo(Object binaryEqualTo) {
+    if (binaryEqualTo == null) {
+      return List.of();
+    }
+
+    final List<?> encoded = binaryEqualTo instanceof List<?> list ? list : List.of(binaryEqualTo);
+    return encoded.stream().map(value -> Encoding.decodeBase64(String.valueOf(value))).toList();
+  }
+
+  private record CompiledParameters(List<byte[]> expectedBytes, List<FieldCondition> conditions) {
+
+    static CompiledParameters from(Parameters parameters) {
+      final List<byte[]> expectedBytes = decodeBinaryEqualTo(parameters.get(BINARY_EQUAL_TO));
+
+      final Object fields = parameters.get(FIELDS);
+      if (!(fields instanceof List<?> fieldList)) {
+        return new CompiledParameters(expectedBytes, List.of());
+      }
+
+      return new CompiledParameters(
+          expectedBytes,
+          fieldList.stream().map(field -> FieldCondition.from((Map<?, ?>) field)).toList());
+    }
+  }
+
+  private static class CompiledEntry {
+    final CompiledParameters compiled;
+    volatile long lastUsed;
+
+    CompiledEntry(CompiledParameters compiled, long lastUsed) {
+      this.compiled = compiled;
+      this.lastUsed = lastUsed;
+    }
+  }
+
+  private record FieldCondition(
+      List<String> path,
+      StringValuePattern valuePattern,
+      StringValuePattern elementPattern,
+      String oneofCase) {
+
+    static FieldCondition from(Map<?, ?> field) {
+      final String path = String.valueOf(field.get(PATH));
+      return new FieldCondition(
+          Arrays.asList(path.split("\\.")),
+          toPattern(field.get(MATCHES)),
+          toPattern(field.get(CONTAINS)),
+          field.containsKey(ONEOF_CASE) ? String.valueOf(field.get(ONEOF_CASE)) : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StringValuePattern toPattern(Object value) {
+      if (value == null || value instanceof StringValuePattern) {
+        return (StringValuePattern) value;
+      }
+
+      return Json.mapToObject((Map<String, Object>) value, StringValuePattern.class);
+    }
+
+    MatchResult match(Message root, JsonMessageConverter converter) {
+      final Optional<Message> parent = resolveParent(root);
+      if (parent.isEmpty()) {
+        return MatchResult.noMatch();
+      }
+
+      final Message message = parent.get();
+      final String leafName = path.get(path.size() - 1);
+
+      if (oneofCase != null) {
+        return MatchResult.of(matchesOneofCase(message, leafName));
+      }
+
+      final Descriptors.FieldDescriptor field = findField(message.getDescriptorForType(), leafName);
+      if (field == null) {
+        return MatchResult.noMatch();
+      }
+
+      if (elementPattern != null) {
+        if (!field.isRepeated()) {
+          return MatchResult.noMatch();
+        }
+
+        final int count = message.getRepeatedFieldCount(field);
+        for (int i = 0; i < count; i++) {
+          final String element = stringValue(field, message.getRepeatedField(field, i), converter);
+          if (elementPattern.match(element).isExactMatch()) {
+            return MatchResult.exactMatch();
+          }
+        }
+        return MatchResult.noMatch();
+      }
+
+      if (field.isRepeated() || valuePattern == null) {
+        return MatchResult.noMatch();
+      }
+
+      return valuePattern.match(stringValue(field, message.getField(field), converter));
+    }
+
+    private Optional<Message> resolveParent(Message root) {
+      Message current = root;
+      for (String segment : path.subList(0, path.size() - 1)) {
+        final Descriptors.FieldDescriptor field =
+            findField(current.getDescriptorForType(), segment);
+        if (field == null
+            || field.isRepeated()
+            || field.getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+          return Optional.empty();
+        }
+        current = (Message) current.getField(field);
+      }
+      return Optional.of(current);
+    }
+
+    private boolean matchesOneofCase(Message message, String oneofName) {
+      return message.getDescriptorForType().getOneofs().stream()
+          .filter(oneof -> oneof.getName().equals(oneofName))
+          .findFirst()
+          .map(
+              oneof -> {
+                final Descriptors.FieldDescriptor setField = message.getOneofFieldDescriptor(oneof);
+                return setField != null
+                    && (oneofCase.equals(setField.getName())
+                        || oneofCase.equals(setField.getJsonName()));
+              })
+          .orElse(false);
+    }
+  }
+
+  private static Descriptors.FieldDescriptor findField(
+      Descriptors.Descriptor descriptor, String name) {
+    final Descriptors.FieldDescriptor field = descriptor.findFieldByName(name);
+    if (field != null) {
+      return field;
+    }
+
+    return descriptor.getFields().stream()
+        .filter(candidate -> candidate.getJsonName().equals(name))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static String stringValue(
+      Descriptors.FieldDescriptor field, Object value, JsonMessageConverter converter) {
+    return switch (field.getJavaType()) {
+      case ENUM -> ((Descriptors.EnumValueDescriptor) value).getName();
+      case BYTE_STRING -> Encoding.encodeBase64(((ByteString) value).toByteArray());
+      case MESSAGE -> converter.toJson((MessageOrBuilder) value);
+      default -> String.valueOf(value);
+    };
+  }
+}
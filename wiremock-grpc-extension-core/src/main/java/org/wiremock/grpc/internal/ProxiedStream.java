@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Flow;
+
+/**
+ * A streaming call being proxied to an upstream server, piping messages through in both directions
+ * one at a time. Messages are only sent upstream while the upstream call is ready for them, and the
+ * next inbound message is only requested from the client once they've all gone. Upstream messages
+ * are only requested once the previous one has been written to the client, so a long-lived stream
+ * passes through in constant memory.
+ *
+ * <p>The upstream messages are published to the call's {@link OutboundMessageStream}, which
+ * requests each one when the client is ready for it. How the upstream call ends is recorded as a
+ * sub-event of the serve event, since the stream outlives the logged response. The client's request
+ * headers are sent upstream, and the upstream's response headers and trailers are relayed back
+ * through the call's {@link RelayedMetadata}.
+ */
+public class ProxiedStream implements Flow.Publisher<DynamicMessage> {
+
+  private final ClientCall<DynamicMessage, DynamicMessage> upstream;
+  private final GrpcChannelPool.Lease lease;
+  private final RelayedMetadata relayedMetadata;
+
+  private ServeEvent serveEvent;
+  private Flow.Subscriber<? super DynamicMessage> subscriber;
+  private Status closedWith;
+  private boolean completed;
+  private final Queue<DynamicMessage> outbound = new ArrayDeque<>();
+  private Runnable afterOutbound;
+  private boolean halfClosePending;
+  private boolean halfClosed;
+  private long messagesReceived;
+
+  public ProxiedStream(
+      ClientCall<DynamicMessage, DynamicMessage> upstream,
+      GrpcChannelPool.Lease lease,
+      RelayedMetadata relayedMetadata) {
+    this.upstream = upstream;
+    this.lease = lease;
+    this.relayedMetadata = relayedMetadata;
+  }
+
+  /** Starts the upstream call. Upstream messages aren't requested until this is subscribed to. */
+  public void start() {
+    upstream.start(
+        new UpstreamListener(),
+        relayedMetadata != null ? relayedMetadata.upstreamRequestHeaders() : new Metadata());
+  }
+
+  /**
+   * Associates the stream with the serve event logged for the call, so that how the upstream call
+   * ends is recorded against it, straight away if it already has.
+   */
+  public synchronized void attach(Map<String, Object> attributes) {
+    serveEvent = (ServeEvent) attributes.get(ServeEvent.ORIGINAL_SERVE_EVENT_KEY);
+    if (closedWith != null) {
+      record();
+    }
+  }
+
+  /**
+   * Sends a message upstream, then asks for the next one from the client straight away if the
+   * upstream call can take it, or otherwise once it becomes ready.
+   */
+  public void forward(DynamicMessage message, Runnable requestNext) {
+    forward(List.of(message), requestNext);
+  }
+
+  /**
+   * Sends messages upstream as fast as the upstream call is ready for them, then runs {@code
+   * requestNext} once they've all been sent.
+   */
+  public void forward(List<DynamicMessage> messages, Runnable requestNext) {
+    synchronized (this) {
+      if (closedWith != null) {
+        return;
+      }
+      outbound.addAll(messages);
+      afterOutbound = requestNext;
+    }
+    sendOutbound();
+  }
+
+  /** Sends messages that have already been buffered, with no more to follow. */
+  public void forwardAll(List<DynamicMessage> messages) {
+    forward(messages, null);
+    halfClose();
+  }
+
+  /** Half-closes the upstream call once any messages still waiting to be sent have gone. */
+  public void halfClose() {
+    synchronized (this) {
+      halfClosePending = true;
+    }
+    sendOutbound();
+  }
+
+  /** Abandons the upstream call, e.g. when the client's call can't be relayed in full. */
+  public void cancel(String reason) {
+    upstream.cancel(reason, null);
+  }
+
+  private void sendOutbound() {
+    final Runnable next;
+    synchronized (this) {
+      while (closedWith == null && !outbound.isEmpty() && upstream.isReady()) {
+        upstream.sendMessage(outbound.poll());
+      }
+      if (closedWith != null || !outbound.isEmpty()) {
+        return;
+      }
+
+      if (halfClosePending && !halfClosed) {
+        halfClosed = true;
+        upstream.halfClose();
+      }
+      next = afterOutbound;
+      afterOutbound = null;
+    }
+
+    if (next != null) {
+      next.run();
+    }
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super DynamicMessage> subscriber) {
+    synchronized (this) {
+      this.subscriber = subscriber;
+    }
+    subscriber.onSubscribe(
+        new Flow.Subscription() {
+          @Override
+          public void request(long n) {
+            upstream.request((int) Math.min(n, Integer.MAX_VALUE));
+          }
+
+          @Override
+          public void cancel() {
+            upstream.cancel("Downstream call ended", null);
+          }
+        });
+    completeIfClosed();
+  }
+
+  private void completeIfClosed() {
+    final Flow.Subscriber<? super DynamicMessage> current;
+    final Status status;
+    synchronized (this) {
+      if (closedWith == null || subscriber == null || completed) {
+        return;
+      }
+      completed = true;
+      current = subscriber;
+      status = closedWith;
+    }
+
+    if (status.isOk()) {
+      current.onComplete();
+    } else {
+      current.onError(status.asRuntimeException());
+    }
+  }
+
+  private void record() {
+    if (serveEvent != null) {
+      serveEvent.appendSubEvent(
+          SubEvent.info(
+              "Upstream closed the stream with "
+                  + closedWith.getCode()
+                  + (closedWith.getDescription() != null ? ": " + closedWith.getDescription() : "")
+                  + " after "
+                  + messagesReceived
+                  + " messages"));
+    }
+  }
+
+  private class UpstreamListener extends ClientCall.Listener<DynamicMessage> {
+
+    @Override
+    public void onHeaders(Metadata headers) {
+      if (relayedMetadata != null) {
+        relayedMetadata.setResponseHeaders(headers);
+      }
+    }
+
+    @Override
+    public void onMessage(DynamicMessage message) {
+      final Flow.Subscriber<? super DynamicMessage> current;
+      synchronized (ProxiedStream.this) {
+        messagesReceived++;
+        current = subscriber;
+      }
+      // Only requested through the subscription, so there's always a subscriber
+      current.onNext(message);
+    }
+
+    @Override
+    public void onReady() {
+      sendOutbound();
+    }
+
+    @Override
+    public void onClose(Status status, Metadata trailers) {
+      // Before the subscriber is completed, which closes the client's call
+      if (relayedMetadata != null) {
+        relayedMetadata.setResponseTrailers(trailers);
+      }
+      synchronized (ProxiedStream.this) {
+        closedWith = status;
+        outbound.clear();
+        afterOutbound = null;
+        record();
+      }
+      lease.close();
+      completeIfClosed();
+    }
+  }
+}
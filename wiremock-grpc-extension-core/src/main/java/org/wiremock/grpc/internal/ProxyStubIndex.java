@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.extension.StubLifecycleListener;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the URL patterns of the current proxy stubs, so that a client stream only keeps
+ * its messages for proxying when one of them could match a proxy stub at all.
+ */
+public class ProxyStubIndex implements StubLifecycleListener {
+
+  private final Map<UUID, UrlPattern> proxyStubUrls = new ConcurrentHashMap<>();
+
+  /** Whether there's a proxy stub whose URL could match the method with this path. */
+  public boolean hasProxyStubFor(String methodPath) {
+    for (UrlPattern url : proxyStubUrls.values()) {
+      if (url.match(methodPath).isExactMatch()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void afterStubCreated(StubMapping stub) {
+    add(stub);
+  }
+
+  @Override
+  public void afterStubEdited(StubMapping oldStub, StubMapping newStub) {
+    proxyStubUrls.remove(oldStub.getId());
+    add(newStub);
+  }
+
+  @Override
+  public void afterStubRemoved(StubMapping stub) {
+    proxyStubUrls.remove(stub.getId());
+  }
+
+  @Override
+  public void afterStubsReset() {
+    proxyStubUrls.clear();
+  }
+
+  @Override
+  public String getName() {
+    return "grpc-proxy-stub-index";
+  }
+
+  private void add(StubMapping stub) {
+    if (stub.getResponse() == null || !stub.getResponse().isProxyResponse()) {
+      return;
+    }
+
+    final RequestPattern request = stub.getRequest();
+    final UrlPattern url = request != null ? request.getUrlMatcher() : null;
+    proxyStubUrls.put(stub.getId(), url != null ? url : UrlPattern.ANY);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The certificate trust settings that WireMock builds its HTTP clients with, recorded by {@link
+ * GrpcHttpClientFactory} so that channels opened by the asynchronous proxy trust the same upstreams
+ * as a {@link GrpcClient} would. Where clients were built with different settings, a host is only
+ * trusted if all of them trust it.
+ */
+public class ProxyTrust {
+
+  private final List<Settings> recorded = new CopyOnWriteArrayList<>();
+
+  public void record(boolean trustAllCertificates, List<String> trustedHosts) {
+    recorded.add(new Settings(trustAllCertificates, List.copyOf(trustedHosts)));
+  }
+
+  public boolean trusts(String host) {
+    return !recorded.isEmpty() && recorded.stream().allMatch(settings -> settings.trusts(host));
+  }
+
+  private record Settings(boolean trustAllCertificates, List<String> trustedHosts) {
+    boolean trusts(String host) {
+      return trustAllCertificates || trustedHosts.contains(host);
+    }
+  }
+}
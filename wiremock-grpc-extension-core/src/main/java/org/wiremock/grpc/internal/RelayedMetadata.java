@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import io.grpc.Context;
+import io.grpc.Metadata;
+import java.util.Set;
+
+/**
+ * Carries metadata across a proxied call: the client's request headers on the way upstream, and the
+ * upstream's response headers and trailers on the way back. The upstream's are only known once the
+ * upstream call has started, so they're held here until the client's call sends its own, which
+ * {@link HeaderCopyingServerInterceptor} merges them into.
+ */
+public class RelayedMetadata {
+
+  static final Context.Key<RelayedMetadata> CONTEXT_KEY = Context.key("RELAYED_METADATA");
+
+  // Set by the transports of each hop, so never relayed from one call to the other
+  private static final Set<String> HOP_BY_HOP =
+      Set.of(
+          "content-type",
+          "te",
+          "user-agent",
+          "grpc-encoding",
+          "grpc-accept-encoding",
+          "grpc-timeout",
+          "grpc-status",
+          "grpc-message");
+
+  private final Metadata requestHeaders;
+
+  private Metadata responseHeaders;
+  private Metadata responseTrailers;
+
+  RelayedMetadata(Metadata requestHeaders) {
+    this.requestHeaders = requestHeaders;
+  }
+
+  /** The metadata of the call being handled on the current thread, if it came through a server. */
+  public static RelayedMetadata current() {
+    return CONTEXT_KEY.get();
+  }
+
+  /** A copy of the client's request headers to send upstream. */
+  public Metadata upstreamRequestHeaders() {
+    return relayable(requestHeaders);
+  }
+
+  public synchronized void setResponseHeaders(Metadata upstreamHeaders) {
+    responseHeaders = relayable(upstreamHeaders);
+  }
+
+  public synchronized void setResponseTrailers(Metadata upstreamTrailers) {
+    responseTrailers = relayable(upstreamTrailers);
+  }
+
+  synchronized void mergeHeadersInto(Metadata headers) {
+    if (responseHeaders != null) {
+      headers.merge(responseHeaders);
+      responseHeaders = null;
+    }
+  }
+
+  /** Merges trailers, along with any headers that weren't sent because no message was. */
+  synchronized void mergeTrailersInto(Metadata trailers) {
+    mergeHeadersInto(trailers);
+    if (responseTrailers != null) {
+      trailers.merge(responseTrailers);
+      responseTrailers = null;
+    }
+  }
+
+  private static Metadata relayable(Metadata source) {
+    final Metadata copy = new Metadata();
+    for (String name : source.keys()) {
+      if (name.startsWith(":") || HOP_BY_HOP.contains(name)) {
+        continue;
+      }
+
+      if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+        final Metadata.Key<byte[]> key = Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER);
+        source.getAll(key).forEach(value -> copy.put(key, value));
+      } else {
+        final Metadata.Key<String> key = Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER);
+        source.getAll(key).forEach(value -> copy.put(key, value));
+      }
+    }
+    return copy;
+  }
+}
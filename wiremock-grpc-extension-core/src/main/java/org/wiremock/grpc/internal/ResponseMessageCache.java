@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.extension.StubLifecycleListener;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of response messages parsed from stub bodies, keyed by stub ID and output message type.
+ * Entries are evicted when their stub is edited or removed, and the whole cache is cleared when
+ * stubs are reset or descriptors are reloaded.
+ *
+ * <p>Lookups take no lock. Once the cache is full, each insert evicts the least recently used of a
+ * small sample of entries, which approximates LRU without ordering every access.
+ *
+ * <p>With pre-serialization, a message that's reused is serialized once and handed out from then
+ * on as a {@link DeferredMessageMarshaller} placeholder holding its bytes, which the response
+ * marshaller writes out as they are. Templated responses are never pre-serialized.
+ */
+public class ResponseMessageCache implements StubLifecycleListener {
+
+  public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+  private static final int EVICTION_SAMPLE_SIZE = 8;
+
+  private final int maxEntries;
+  private final boolean preSerialize;
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicLong clock = new AtomicLong();
+
+  public ResponseMessageCache() {
+    this(DEFAULT_MAX_ENTRIES, false);
+  }
+
+  public ResponseMessageCache(int maxEntries, boolean preSerialize) {
+    this.maxEntries = maxEntries;
+    this.preSerialize = preSerialize;
+  }
+
+  public boolean isPreSerialize() {
+    return preSerialize;
+  }
+
+  /**
+   * Returns the cached message for the stub if it was parsed from an identical body, otherwise
+   * parses the body and caches the result. Comparing the body keeps this safe for stubs whose
+   * response is rendered differently per request, e.g. via templating.
+   *
+   * <p>The message returned for a reused, untemplated body is in its serialized form if
+   * pre-serialization is enabled, so it must only be sent, not read.
+   */
+  public DynamicMessage get(
+      UUID stubId,
+      Descriptors.Descriptor outputType,
+      String body,
+      boolean templated,
+      Supplier<DynamicMessage> parser) {
+    final Key key = new Key(stubId, outputType);
+    final Entry cached = entries.get(key);
+    if (cached != null && cached.body.equals(body)) {
+      cached.lastUsed = clock.incrementAndGet();
+      return preSerialize && !templated ? cached.serializedForm() : cached.message;
+    }
+
+    final DynamicMessage message = parser.get();
+    entries.put(key, new Entry(body, message, clock.incrementAndGet()));
+    evictIfFull();
+    return message;
+  }
+
+  public void evict(UUID stubId) {
+    entries.keySet().removeIf(key -> key.stubId().equals(stubId));
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private void evictIfFull() {
+    while (entries.size() > maxEntries) {
+      Map.Entry<Key, Entry> eldest = null;
+      final Iterator<Map.Entry<Key, Entry>> sample = entries.entrySet().iterator();
+      for (int i = 0; i < EVICTION_SAMPLE_SIZE && sample.hasNext(); i++) {
+        final Map.Entry<Key, Entry> candidate = sample.next();
+        if (eldest == null || candidate.getValue().lastUsed < eldest.getValue().lastUsed) {
+          eldest = candidate;
+        }
+      }
+
+      if (eldest == null) {
+        return;
+      }
+      entries.remove(eldest.getKey(), eldest.getValue());
+    }
+  }
+
+  @Override
+  public void afterStubEdited(StubMapping oldStub, StubMapping newStub) {
+    evict(oldStub.getId());
+  }
+
+  @Override
+  public void afterStubRemoved(StubMapping stub) {
+    evict(stub.getId());
+  }
+
+  @Override
+  public void afterStubsReset() {
+    clear();
+  }
+
+  @Override
+  public String getName() {
+    return "grpc-response-message-cache";
+  }
+
+  private record Key(UUID stubId, Descriptors.Descriptor outputType) {}
+
+  private static class Entry {
+    final String body;
+    final DynamicMessage message;
+    volatile long lastUsed;
+    // Only serialized once the body is reused, so per-request bodies are never serialized twice
+    private volatile DynamicMessage serialized;
+
+    Entry(String body, DynamicMessage message, long lastUsed) {
+      this.body = body;
+      this.message = message;
+      this.lastUsed = lastUsed;
+    }
+
+    DynamicMessage serializedForm() {
+      DynamicMessage current = serialized;
+      if (current == null) {
+        // Racing threads may each serialize it, which is harmless
+        current = DeferredMessageMarshaller.serialized(message.toByteArray());
+        serialized = current;
+      }
+      return current;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.google.protobuf.DynamicMessage;
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The messages of a client stream that haven't been answered by a stub, kept as they were received
+ * so that the upstream is sent them if a later one matches a proxy stub. They're only kept while a
+ * proxy stub could match the method, are dropped as soon as another stub answers one, and are
+ * bounded by the aggregation limits, past which the call fails rather than hold any more.
+ */
+class RetainedMessages {
+
+  static final Status OVERFLOWED =
+      Status.RESOURCE_EXHAUSTED.withDescription(
+          "Client stream exceeded the aggregation limits while it could still be proxied");
+
+  private final int maxMessages;
+  private final long maxBytes;
+  private final ProxyStubIndex proxyStubIndex;
+  private final String methodPath;
+  private final List<DynamicMessage> messages = new ArrayList<>();
+
+  private long bytes;
+  private boolean overflowed;
+  private boolean released;
+
+  RetainedMessages(GrpcSettings settings, String methodPath) {
+    this.maxMessages = settings.getMaxAggregatedMessages();
+    this.maxBytes = settings.getMaxAggregatedBytes();
+    this.proxyStubIndex = settings.getProxyStubIndex();
+    this.methodPath = methodPath;
+  }
+
+  /** Keeps an unanswered message, if a proxy stub could still match one of the method's. */
+  void add(DynamicMessage received) {
+    if (overflowed || released) {
+      return;
+    }
+
+    if (!proxyStubIndex.hasProxyStubFor(methodPath)) {
+      clear();
+      return;
+    }
+
+    final int size = DeferredMessageMarshaller.serializedSize(received);
+    if (messages.size() >= maxMessages || bytes + size > maxBytes) {
+      overflowed = true;
+      clear();
+      return;
+    }
+
+    messages.add(received);
+    bytes += size;
+  }
+
+  /** Whether the unanswered messages went past the limits, so the call has to fail. */
+  boolean isOverflowed() {
+    return overflowed;
+  }
+
+  /** The retained messages followed by the one that matched, after which none are retained. */
+  List<DynamicMessage> takeWith(DynamicMessage matched) {
+    final List<DynamicMessage> all = new ArrayList<>(messages);
+    all.add(matched);
+    release();
+    return all;
+  }
+
+  /** Drops the messages kept so far, once one has been answered by a stub that isn't a proxy. */
+  void clear() {
+    messages.clear();
+    bytes = 0;
+  }
+
+  /** Stops retaining messages once the stream can no longer be proxied. */
+  void release() {
+    released = true;
+    clear();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.http.StubRequestHandler;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+public class ServerStreamingServerCallHandler extends BaseCallHandler
+    implements ServerCalls.ServerStreamingMethod<DynamicMessage, DynamicMessage> {
+
+  public ServerStreamingServerCallHandler(
+      StubRequestHandler stubRequestHandler,
+      Descriptors.ServiceDescriptor serviceDescriptor,
+      Descriptors.MethodDescriptor methodDescriptor,
+      Supplier<JsonMessageConverter> jsonMessageConverterSupplier,
+      Supplier<ServerAddress> serverAddressSupplier,
+      GrpcSettings settings) {
+    super(
+        stubRequestHandler,
+        serviceDescriptor,
+        methodDescriptor,
+        jsonMessageConverterSupplier,
+        serverAddressSupplier,
+        settings);
+  }
+
+  @Override
+  public void invoke(DynamicMessage request, StreamObserver<DynamicMessage> responseObserver) {
+    final CallCancellation cancellation = CallCancellation.watch(responseObserver);
+    final OutboundMessageStream responses =
+        OutboundMessageStream.attach(responseObserver, cancellation);
+    if (cancellation.isCancelled()) {
+      return;
+    }
+
+    final ServerAddress serverAddress = serverAddressSupplier.get();
+
+    final GrpcContext context =
+        new GrpcContext(
+            serviceDescriptor, methodDescriptor, jsonMessageConverterSupplier.get(), request);
+    CONTEXT.set(context);
+
+    final GrpcRequest wireMockRequest =
+        new GrpcRequest(
+            serverAddress.scheme(), serverAddress.hostname(), serverAddress.port(), context);
+
+    stubRequestHandler.handle(
+        wireMockRequest,
+        (req, resp, attributes) -> {
+          if (cancellation.attach(attributes)) {
+            return;
+          }
+
+          final ProxiedStream proxiedStream = context.getProxiedStream();
+          if (proxiedStream != null) {
+            proxiedStream.attach(attributes);
+            proxiedStream.forwardAll(List.of(request));
+            replyAfterDelay(
+                resp.getInitialDelay(),
+                responseObserver,
+                responses,
+                cancellation,
+                () -> () -> responses.start(proxiedStream));
+            return;
+          }
+
+          replyAfterDelay(
+              resp.getInitialDelay(),
+              responseObserver,
+              responses,
+              cancellation,
+              () -> reply(context.getDm(), resp, attributes, responseObserver, responses));
+        },
+        ServeEvent.of(wireMockRequest));
+  }
+
+  private Runnable reply(
+      DynamicMessage request,
+      Response resp,
+      Map<String, Object> attributes,
+      StreamObserver<DynamicMessage> observer,
+      OutboundMessageStream responses) {
+    final Runnable errorReply = errorReply(resp, observer);
+    if (errorReply != null) {
+      return errorReply;
+    }
+
+    final Flow.Publisher<DynamicMessage> messages = toResponseMessages(request, resp, attributes);
+    return () -> responses.start(messages);
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.github.tomakehurst.wiremock.http.StubRequestHandler;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.protobuf.services.ProtoReflectionServiceV1;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and binds the services declared by the loaded file descriptors, keeping the service
+ * definitions between loads. When descriptors are reloaded only the services of file descriptors
+ * that weren't loaded last time are built, so a store that reuses unchanged {@link
+ * Descriptors.FileDescriptor} instances makes a reload cost proportional to what changed. New
+ * services are built in parallel, on the common fork-join pool.
+ *
+ * <p>With {@link GrpcSettings#isLazyServices() lazy services} nothing is built up front. A {@link
+ * LazyHandlerRegistry} is installed as the server's fallback registry instead, and methods are
+ * built on their first call.
+ */
+public class ServiceDefinitionCache {
+
+  private final StubRequestHandler stubRequestHandler;
+  private final Supplier<ServerAddress> serverAddressSupplier;
+  private final GrpcSettings settings;
+  private final HeaderCopyingServerInterceptor headerCopyingServerInterceptor =
+      new HeaderCopyingServerInterceptor();
+
+  private volatile JsonMessageConverter jsonMessageConverter;
+  private List<Descriptors.FileDescriptor> fileDescriptors = List.of();
+  private List<ServerInterceptor> interceptors = List.of();
+  private Map<Descriptors.FileDescriptor, List<ServerServiceDefinition>> servicesByFile =
+      new IdentityHashMap<>();
+  private LazyHandlerRegistry lazyHandlerRegistry;
+
+  public ServiceDefinitionCache(
+      StubRequestHandler stubRequestHandler,
+      Supplier<ServerAddress> serverAddressSupplier,
+      GrpcSettings settings) {
+    this.stubRequestHandler = stubRequestHandler;
+    this.serverAddressSupplier = serverAddressSupplier;
+    this.settings = settings;
+  }
+
+  public synchronized <T extends ServerBuilder<T>> T bindServices(
+      T serverBuilder,
+      List<Descriptors.FileDescriptor> fileDescriptors,
+      List<ServerInterceptor> interceptors) {
+    if (!interceptors.equals(this.interceptors)) {
+      servicesByFile.clear();
+      lazyHandlerRegistry = null;
+      this.interceptors = List.copyOf(interceptors);
+    }
+
+    // The converter is built alongside the services. Handlers look it up on each call, so the ones
+    // kept from the previous load pick up the type registry of the new one.
+    final CompletableFuture<JsonMessageConverter> newJsonMessageConverter =
+        jsonMessageConverter == null || !fileDescriptors.equals(this.fileDescriptors)
+            ? CompletableFuture.supplyAsync(
+                () -> GrpcUtils.buildJsonMessageConverter(fileDescriptors, settings),
+                ForkJoinPool.commonPool())
+            : CompletableFuture.completedFuture(jsonMessageConverter);
+
+    if (settings.isLazyServices()) {
+      lazyHandlerRegistry =
+          new LazyHandlerRegistry(fileDescriptors, this::buildMethod, lazyHandlerRegistry);
+      serverBuilder.fallbackHandlerRegistry(lazyHandlerRegistry);
+    } else {
+      bindAll(serverBuilder, fileDescriptors);
+    }
+
+    jsonMessageConverter = newJsonMessageConverter.join();
+    this.fileDescriptors = List.copyOf(fileDescriptors);
+
+    serverBuilder.addService(intercept(ProtoReflectionServiceV1.newInstance().bindService()));
+    return serverBuilder;
+  }
+
+  private void bindAll(
+      ServerBuilder<?> serverBuilder, List<Descriptors.FileDescriptor> fileDescriptors) {
+    final Map<Descriptors.FileDescriptor, List<ServerServiceDefinition>> previous = servicesByFile;
+    final Map<Descriptors.FileDescriptor, List<ServerServiceDefinition>> built =
+        fileDescriptors.parallelStream()
+            .filter(fileDescriptor -> !previous.containsKey(fileDescriptor))
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    this::buildServices,
+                    (services, duplicate) -> services,
+                    IdentityHashMap::new));
+
+    servicesByFile = new IdentityHashMap<>();
+    for (Descriptors.FileDescriptor fileDescriptor : fileDescriptors) {
+      final List<ServerServiceDefinition> services =
+          previous.containsKey(fileDescriptor)
+              ? previous.get(fileDescriptor)
+              : built.get(fileDescriptor);
+      servicesByFile.put(fileDescriptor, services);
+      services.forEach(serverBuilder::addService);
+    }
+  }
+
+  private List<ServerServiceDefinition> buildServices(Descriptors.FileDescriptor fileDescriptor) {
+    return fileDescriptor.getServices().stream()
+        .map(serviceDescriptor -> buildService(fileDescriptor, serviceDescriptor))
+        .toList();
+  }
+
+  private ServerServiceDefinition buildService(
+      Descriptors.FileDescriptor fileDescriptor, Descriptors.ServiceDescriptor serviceDescriptor) {
+    return intercept(
+        GrpcUtils.buildService(
+            fileDescriptor,
+            serviceDescriptor,
+            stubRequestHandler,
+            () -> jsonMessageConverter,
+            serverAddressSupplier,
+            settings));
+  }
+
+  private ServerMethodDefinition<?, ?> buildMethod(Descriptors.MethodDescriptor methodDescriptor) {
+    final ServerMethodDefinition<DynamicMessage, DynamicMessage> method =
+        GrpcUtils.buildMethod(
+            methodDescriptor.getService(),
+            methodDescriptor,
+            stubRequestHandler,
+            () -> jsonMessageConverter,
+            serverAddressSupplier,
+            settings);
+    return intercept(
+            ServerServiceDefinition.builder(methodDescriptor.getService().getFullName())
+                .addMethod(method)
+                .build())
+        .getMethod(method.getMethodDescriptor().getFullMethodName());
+  }
+
+  private ServerServiceDefinition intercept(ServerServiceDefinition service) {
+    return ServerInterceptors.intercept(
+        ServerInterceptors.intercept(service, headerCopyingServerInterceptor), interceptors);
+  }
+}
@@ -0,0 +1,711 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.github.tomakehurst.wiremock.common.Exceptions;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import com.google.protobuf.TypeRegistry;
+import com.google.protobuf.util.JsonFormat;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link JsonMessageConverter} that reads and writes JSON with Jackson's streaming API, using an
+ * encoder/decoder built once per message descriptor instead of JsonFormat's reflective printer and
+ * parser. It follows the proto3 JSON mapping as implemented by JsonFormat, except that output is
+ * compact rather than pretty printed. Well-known types with special JSON forms (Any, Timestamp,
+ * Struct, wrappers etc.) are still handed to JsonFormat.
+ */
+public class StreamingJsonMessageConverter extends JsonMessageConverter {
+
+  private static final JsonFactory JSON_FACTORY =
+      JsonFactory.builder()
+          .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+          .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+          .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+          .build();
+
+  private static final Set<String> WELL_KNOWN_TYPES =
+      Set.of(
+          "google.protobuf.Any",
+          "google.protobuf.Timestamp",
+          "google.protobuf.Duration",
+          "google.protobuf.FieldMask",
+          "google.protobuf.Struct",
+          "google.protobuf.Value",
+          "google.protobuf.ListValue",
+          "google.protobuf.DoubleValue",
+          "google.protobuf.FloatValue",
+          "google.protobuf.Int64Value",
+          "google.protobuf.UInt64Value",
+          "google.protobuf.Int32Value",
+          "google.protobuf.UInt32Value",
+          "google.protobuf.BoolValue",
+          "google.protobuf.StringValue",
+          "google.protobuf.BytesValue");
+
+  private static final String VALUE_TYPE = "google.protobuf.Value";
+  private static final String NULL_VALUE_TYPE = "google.protobuf.NullValue";
+
+  private static final double FLOAT_RANGE_LIMIT = Float.MAX_VALUE * (1.0 + 1e-6);
+  private static final BigInteger MAX_UINT64 =
+      BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+  private final JsonFormat.Printer wellKnownTypePrinter;
+  private final JsonFormat.Parser wellKnownTypeParser;
+  private final Map<Descriptors.Descriptor, MessageCodec> codecs = new ConcurrentHashMap<>();
+
+  public StreamingJsonMessageConverter(
+      TypeRegistry typeRegistry, List<Descriptors.FileDescriptor> fileDescriptors) {
+    super(typeRegistry);
+    wellKnownTypePrinter =
+        JsonFormat.printer().usingTypeRegistry(typeRegistry).omittingInsignificantWhitespace();
+    wellKnownTypeParser = JsonFormat.parser().usingTypeRegistry(typeRegistry);
+    fileDescriptors.forEach(
+        fileDescriptor -> fileDescriptor.getMessageTypes().forEach(this::prepareCodec));
+  }
+
+  @Override
+  public String toJson(MessageOrBuilder message) {
+    final Descriptors.Descriptor descriptor = message.getDescriptorForType();
+    if (isWellKnownType(descriptor)) {
+      return Exceptions.uncheck(() -> wellKnownTypePrinter.print(message), String.class);
+    }
+
+    final StringWriter writer = new StringWriter();
+    Exceptions.uncheck(
+        () -> {
+          try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            codecFor(descriptor).write(generator, message);
+          }
+        });
+    return writer.toString();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Message, B extends Message.Builder> T toMessage(String json, B builder) {
+    final Descriptors.Descriptor descriptor = builder.getDescriptorForType();
+    if (isWellKnownType(descriptor)) {
+      Exceptions.uncheck(() -> wellKnownTypeParser.merge(json, builder));
+      return (T) builder.build();
+    }
+
+    Exceptions.uncheck(
+        () -> {
+          try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            final JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+              throw new InvalidProtocolBufferException(
+                  "Expect message object but got: " + (token == null ? null : parser.getText()));
+            }
+            codecFor(descriptor).merge(parser, builder);
+            if (parser.nextToken() != null) {
+              throw new InvalidProtocolBufferException(
+                  "Unexpected content after message: " + parser.getText());
+            }
+          }
+        });
+    return (T) builder.build();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Message, B extends Message.Builder> T toMessage(JsonParser parser, B builder) {
+    final Descriptors.Descriptor descriptor = builder.getDescriptorForType();
+    if (isWellKnownType(descriptor)) {
+      return super.toMessage(parser, builder);
+    }
+
+    Exceptions.uncheck(
+        () -> {
+          if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new InvalidProtocolBufferException(
+                "Expect message object but got: " + parser.getText());
+          }
+          codecFor(descriptor).merge(parser, builder);
+        });
+    return (T) builder.build();
+  }
+
+  private void prepareCodec(Descriptors.Descriptor descriptor) {
+    if (!isWellKnownType(descriptor)) {
+      codecFor(descriptor).fields();
+    }
+    descriptor.getNestedTypes().forEach(this::prepareCodec);
+  }
+
+  private MessageCodec codecFor(Descriptors.Descriptor descriptor) {
+    return codecs.computeIfAbsent(descriptor, MessageCodec::new);
+  }
+
+  private static boolean isWellKnownType(Descriptors.Descriptor descriptor) {
+    return WELL_KNOWN_TYPES.contains(descriptor.getFullName());
+  }
+
+  private interface ValueWriter {
+    void write(JsonGenerator generator, Object value) throws IOException;
+  }
+
+  private interface ValueReader {
+    Object read(JsonParser parser, Message.Builder parent) throws IOException;
+  }
+
+  private interface KeyParser {
+    Object parse(String key) throws InvalidProtocolBufferException;
+  }
+
+  private class MessageCodec {
+    private final Descriptors.Descriptor descriptor;
+    private volatile Fields fields;
+
+    MessageCodec(Descriptors.Descriptor descriptor) {
+      this.descriptor = descriptor;
+    }
+
+    Fields fields() {
+      Fields result = fields;
+      if (result == null) {
+        synchronized (this) {
+          result = fields;
+          if (result == null) {
+            result = new Fields(descriptor);
+            fields = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    void write(JsonGenerator generator, MessageOrBuilder message) throws IOException {
+      final FieldCodec[] byIndex = fields().byIndex;
+      generator.writeStartObject();
+      for (Map.Entry<Descriptors.FieldDescriptor, Object> entry :
+          message.getAllFields().entrySet()) {
+        final Descriptors.FieldDescriptor field = entry.getKey();
+        final FieldCodec codec =
+            field.isExtension()
+                ? new FieldCodec(field, "[" + field.getFullName() + "]")
+                : byIndex[field.getIndex()];
+        generator.writeFieldName(codec.name);
+        codec.writer.write(generator, entry.getValue());
+      }
+      generator.writeEndObject();
+    }
+
+    void merge(JsonParser parser, Message.Builder builder) throws IOException {
+      final Fields fields = fields();
+      final boolean[] seen = new boolean[fields.byIndex.length];
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String name = parser.currentName();
+        final FieldCodec codec = fields.byName.get(name);
+        if (codec == null) {
+          throw new InvalidProtocolBufferException(
+              "Cannot find field: " + name + " in message " + descriptor.getFullName());
+        }
+
+        final Descriptors.FieldDescriptor field = codec.field;
+        if (seen[field.getIndex()]) {
+          throw new InvalidProtocolBufferException(
+              "Field " + field.getFullName() + " has already been set.");
+        }
+        seen[field.getIndex()] = true;
+
+        final Descriptors.OneofDescriptor oneof = field.getContainingOneof();
+        if (oneof != null && builder.getOneofFieldDescriptor(oneof) != null) {
+          throw new InvalidProtocolBufferException(
+              "Cannot set field "
+                  + field.getFullName()
+                  + " because another field "
+                  + builder.getOneofFieldDescriptor(oneof).getFullName()
+                  + " belonging to the same oneof has already been set.");
+        }
+
+        parser.nextToken();
+        codec.merge(parser, builder);
+      }
+    }
+  }
+
+  private class Fields {
+    private final FieldCodec[] byIndex;
+    private final Map<String, FieldCodec> byName = new HashMap<>();
+
+    Fields(Descriptors.Descriptor descriptor) {
+      final List<Descriptors.FieldDescriptor> fieldDescriptors = descriptor.getFields();
+      byIndex = new FieldCodec[fieldDescriptors.size()];
+      for (Descriptors.FieldDescriptor field : fieldDescriptors) {
+        final FieldCodec codec = new FieldCodec(field, field.getJsonName());
+        byIndex[field.getIndex()] = codec;
+        byName.put(field.getJsonName(), codec);
+        byName.put(field.getName(), codec);
+      }
+    }
+  }
+
+  private class FieldCodec {
+    private final Descriptors.FieldDescriptor field;
+    private final SerializableString name;
+    private final ValueWriter writer;
+    private final ValueReader reader;
+    private final boolean acceptsNull;
+
+    private final Descriptors.FieldDescriptor mapKeyField;
+    private final Descriptors.FieldDescriptor mapValueField;
+    private final KeyParser mapKeyParser;
+    private final ValueReader mapValueReader;
+
+    FieldCodec(Descriptors.FieldDescriptor field, String name) {
+      this.field = field;
+      this.name = new SerializedString(name);
+
+      if (field.isMapField()) {
+        mapKeyField = field.getMessageType().findFieldByNumber(1);
+        mapValueField = field.getMessageType().findFieldByNumber(2);
+        mapKeyParser = keyParser(mapKeyField);
+        mapValueReader = valueReader(mapValueField);
+        writer = mapWriter(mapKeyField, mapValueField, valueWriter(mapValueField));
+        reader = null;
+        acceptsNull = false;
+      } else {
+        mapKeyField = null;
+        mapValueField = null;
+        mapKeyParser = null;
+        mapValueReader = null;
+        writer = field.isRepeated() ? repeatedWriter(valueWriter(field)) : valueWriter(field);
+        reader = valueReader(field);
+        acceptsNull = acceptsNull(field);
+      }
+    }
+
+    void merge(JsonParser parser, Message.Builder builder) throws IOException {
+      final JsonToken token = parser.currentToken();
+      if (token == JsonToken.VALUE_NULL && !acceptsNull) {
+        builder.clearField(field);
+        return;
+      }
+
+      if (field.isMapField()) {
+        mergeMap(parser, builder);
+      } else if (field.isRepeated()) {
+        if (token != JsonToken.START_ARRAY) {
+          throw new InvalidProtocolBufferException(
+              "Expect an array but found: " + parser.getText());
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          if (parser.currentToken() == JsonToken.VALUE_NULL && !acceptsNull) {
+            throw new InvalidProtocolBufferException(
+                "Repeated field elements cannot be null in field: " + field.getFullName());
+          }
+          builder.addRepeatedField(field, reader.read(parser, builder));
+        }
+      } else {
+        builder.setField(field, reader.read(parser, builder));
+      }
+    }
+
+    private void mergeMap(JsonParser parser, Message.Builder builder) throws IOException {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        throw new InvalidProtocolBufferException(
+            "Expect a map object but found: " + parser.getText());
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final Object key = mapKeyParser.parse(parser.currentName());
+        if (parser.nextToken() == JsonToken.VALUE_NULL
+            && !(mapValueField.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE
+                && mapValueField.getMessageType().getFullName().equals(VALUE_TYPE))) {
+          throw new InvalidProtocolBufferException("Map value cannot be null.");
+        }
+
+        final Message.Builder entryBuilder = builder.newBuilderForField(field);
+        entryBuilder.setField(mapKeyField, key);
+        entryBuilder.setField(mapValueField, mapValueReader.read(parser, entryBuilder));
+        builder.addRepeatedField(field, entryBuilder.build());
+      }
+    }
+  }
+
+  private static boolean acceptsNull(Descriptors.FieldDescriptor field) {
+    return switch (field.getJavaType()) {
+      case MESSAGE -> field.getMessageType().getFullName().equals(VALUE_TYPE);
+      case ENUM -> field.getEnumType().getFullName().equals(NULL_VALUE_TYPE);
+      default -> false;
+    };
+  }
+
+  private static ValueWriter repeatedWriter(ValueWriter elementWriter) {
+    return (generator, value) -> {
+      generator.writeStartArray();
+      for (Object element : (List<?>) value) {
+        elementWriter.write(generator, element);
+      }
+      generator.writeEndArray();
+    };
+  }
+
+  private static ValueWriter mapWriter(
+      Descriptors.FieldDescriptor keyField,
+      Descriptors.FieldDescriptor valueField,
+      ValueWriter valueWriter) {
+    return (generator, value) -> {
+      generator.writeStartObject();
+      for (Object entry : (List<?>) value) {
+        final Message entryMessage = (Message) entry;
+        generator.writeFieldName(keyString(keyField, entryMessage.getField(keyField)));
+        valueWriter.write(generator, entryMessage.getField(valueField));
+      }
+      generator.writeEndObject();
+    };
+  }
+
+  private static String keyString(Descriptors.FieldDescriptor keyField, Object key) {
+    return switch (keyField.getType()) {
+      case UINT32, FIXED32 -> Integer.toUnsignedString((Integer) key);
+      case UINT64, FIXED64 -> Long.toUnsignedString((Long) key);
+      default -> String.valueOf(key);
+    };
+  }
+
+  private ValueWriter valueWriter(Descriptors.FieldDescriptor field) {
+    return switch (field.getType()) {
+      case INT32, SINT32, SFIXED32 -> (generator, value) -> generator.writeNumber((Integer) value);
+      case UINT32, FIXED32 -> (generator, value) ->
+          generator.writeNumber(Integer.toUnsignedLong((Integer) value));
+      case INT64, SINT64, SFIXED64 -> (generator, value) ->
+          generator.writeString(Long.toString((Long) value));
+      case UINT64, FIXED64 -> (generator, value) ->
+          generator.writeString(Long.toUnsignedString((Long) value));
+      case FLOAT -> StreamingJsonMessageConverter::writeFloat;
+      case DOUBLE -> StreamingJsonMessageConverter::writeDouble;
+      case BOOL -> (generator, value) -> generator.writeBoolean((Boolean) value);
+      case STRING -> (generator, value) -> generator.writeString((String) value);
+      case BYTES -> (generator, value) ->
+          generator.writeString(
+              Base64.getEncoder().encodeToString(((ByteString) value).toByteArray()));
+      case ENUM -> enumWriter(field.getEnumType());
+      case MESSAGE, GROUP -> messageWriter(field.getMessageType());
+    };
+  }
+
+  private static void writeFloat(JsonGenerator generator, Object value) throws IOException {
+    final float floatValue = (Float) value;
+    if (Float.isNaN(floatValue)) {
+      generator.writeString("NaN");
+    } else if (Float.isInfinite(floatValue)) {
+      generator.writeString(floatValue > 0 ? "Infinity" : "-Infinity");
+    } else {
+      generator.writeNumber(floatValue);
+    }
+  }
+
+  private static void writeDouble(JsonGenerator generator, Object value) throws IOException {
+    final double doubleValue = (Double) value;
+    if (Double.isNaN(doubleValue)) {
+      generator.writeString("NaN");
+    } else if (Double.isInfinite(doubleValue)) {
+      generator.writeString(doubleValue > 0 ? "Infinity" : "-Infinity");
+    } else {
+      generator.writeNumber(doubleValue);
+    }
+  }
+
+  private static ValueWriter enumWriter(Descriptors.EnumDescriptor enumType) {
+    if (enumType.getFullName().equals(NULL_VALUE_TYPE)) {
+      return (generator, value) -> generator.writeNull();
+    }
+
+    return (generator, value) -> {
+      final Descriptors.EnumValueDescriptor enumValue = (Descriptors.EnumValueDescriptor) value;
+      if (enumValue.getIndex() == -1) {
+        generator.writeNumber(enumValue.getNumber());
+      } else {
+        generator.writeString(enumValue.getName());
+      }
+    };
+  }
+
+  private ValueWriter messageWriter(Descriptors.Descriptor messageType) {
+    if (isWellKnownType(messageType)) {
+      return (generator, value) ->
+          generator.writeRawValue(wellKnownTypePrinter.print((MessageOrBuilder) value));
+    }
+
+    final MessageCodec codec = codecFor(messageType);
+    return (generator, value) -> codec.write(generator, (MessageOrBuilder) value);
+  }
+
+  private ValueReader valueReader(Descriptors.FieldDescriptor field) {
+    return switch (field.getType()) {
+      case INT32, SINT32, SFIXED32 -> (parser, parent) -> parseInt32(parser);
+      case UINT32, FIXED32 -> (parser, parent) -> parseUInt32(scalarText(parser));
+      case INT64, SINT64, SFIXED64 -> (parser, parent) -> parseInt64(parser);
+      case UINT64, FIXED64 -> (parser, parent) -> parseUInt64(scalarText(parser));
+      case FLOAT -> (parser, parent) -> parseFloat(scalarText(parser));
+      case DOUBLE -> (parser, parent) -> parseDouble(scalarText(parser));
+      case BOOL -> (parser, parent) -> parseBool(parser);
+      case STRING -> (parser, parent) -> scalarText(parser);
+      case BYTES -> (parser, parent) -> parseBytes(scalarText(parser));
+      case ENUM -> enumReader(field.getEnumType());
+      case MESSAGE, GROUP -> messageReader(field);
+    };
+  }
+
+  private ValueReader messageReader(Descriptors.FieldDescriptor field) {
+    final Descriptors.Descriptor messageType = field.getMessageType();
+    if (isWellKnownType(messageType)) {
+      return (parser, parent) -> {
+        final StringWriter subtree = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(subtree)) {
+          generator.copyCurrentStructure(parser);
+        }
+        final Message.Builder builder = parent.newBuilderForField(field);
+        wellKnownTypeParser.merge(subtree.toString(), builder);
+        return builder.build();
+      };
+    }
+
+    final MessageCodec codec = codecFor(messageType);
+    return (parser, parent) -> {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        throw new InvalidProtocolBufferException(
+            "Expect message object but got: " + parser.getText());
+      }
+      final Message.Builder builder = parent.newBuilderForField(field);
+      codec.merge(parser, builder);
+      return builder.build();
+    };
+  }
+
+  private static ValueReader enumReader(Descriptors.EnumDescriptor enumType) {
+    final boolean nullValue = enumType.getFullName().equals(NULL_VALUE_TYPE);
+    return (parser, parent) -> {
+      if (nullValue && parser.currentToken() == JsonToken.VALUE_NULL) {
+        return enumType.findValueByNumber(0);
+      }
+
+      final String text = scalarText(parser);
+      Descriptors.EnumValueDescriptor result = enumType.findValueByName(text);
+      if (result == null) {
+        try {
+          final int number = parseInt32(text);
+          result =
+              enumType.isClosed()
+                  ? enumType.findValueByNumber(number)
+                  : enumType.findValueByNumberCreatingIfUnknown(number);
+        } catch (InvalidProtocolBufferException e) {
+          // Not a number either, so reported as an invalid enum value below
+        }
+      }
+
+      if (result == null) {
+        throw new InvalidProtocolBufferException(
+            "Invalid enum value: " + text + " for enum type: " + enumType.getFullName());
+      }
+      return result;
+    };
+  }
+
+  private static KeyParser keyParser(Descriptors.FieldDescriptor keyField) {
+    return switch (keyField.getType()) {
+      case INT32, SINT32, SFIXED32 -> StreamingJsonMessageConverter::parseInt32;
+      case UINT32, FIXED32 -> StreamingJsonMessageConverter::parseUInt32;
+      case INT64, SINT64, SFIXED64 -> StreamingJsonMessageConverter::parseInt64;
+      case UINT64, FIXED64 -> StreamingJsonMessageConverter::parseUInt64;
+      case BOOL -> StreamingJsonMessageConverter::parseBool;
+      case STRING -> key -> key;
+      default -> throw new IllegalStateException("Invalid map key type: " + keyField.getFullName());
+    };
+  }
+
+  private static String scalarText(JsonParser parser) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == null || !token.isScalarValue()) {
+      throw new InvalidProtocolBufferException(
+          "Expect a scalar value but found: " + parser.getText());
+    }
+    return parser.getText();
+  }
+
+  private static int parseInt32(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+        && parser.getNumberType() == JsonParser.NumberType.INT) {
+      return parser.getIntValue();
+    }
+    return parseInt32(scalarText(parser));
+  }
+
+  private static int parseInt32(String text) throws InvalidProtocolBufferException {
+    try {
+      return Integer.parseInt(text);
+    } catch (NumberFormatException e) {
+      // Fall through to the slower path that also accepts e.g. "1.0" and "1e2"
+    }
+
+    try {
+      return new BigDecimal(text).intValueExact();
+    } catch (RuntimeException e) {
+      throw new InvalidProtocolBufferException("Not an int32 value: " + text);
+    }
+  }
+
+  private static int parseUInt32(String text) throws InvalidProtocolBufferException {
+    final long value;
+    try {
+      value = parseLong(text);
+    } catch (RuntimeException e) {
+      throw new InvalidProtocolBufferException("Not an uint32 value: " + text);
+    }
+
+    if (value < 0 || value > 0xFFFFFFFFL) {
+      throw new InvalidProtocolBufferException("Out of range uint32 value: " + text);
+    }
+    return (int) value;
+  }
+
+  private static long parseInt64(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+        && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+      return parser.getLongValue();
+    }
+    return parseInt64(scalarText(parser));
+  }
+
+  private static long parseInt64(String text) throws InvalidProtocolBufferException {
+    try {
+      return parseLong(text);
+    } catch (RuntimeException e) {
+      throw new InvalidProtocolBufferException("Not an int64 value: " + text);
+    }
+  }
+
+  private static long parseLong(String text) {
+    try {
+      return Long.parseLong(text);
+    } catch (NumberFormatException e) {
+      return new BigDecimal(text).longValueExact();
+    }
+  }
+
+  private static long parseUInt64(String text) throws InvalidProtocolBufferException {
+    final BigInteger value;
+    try {
+      value = new BigDecimal(text).toBigIntegerExact();
+    } catch (RuntimeException e) {
+      throw new InvalidProtocolBufferException("Not an uint64 value: " + text);
+    }
+
+    if (value.signum() < 0 || value.compareTo(MAX_UINT64) > 0) {
+      throw new InvalidProtocolBufferException("Out of range uint64 value: " + text);
+    }
+    return value.longValue();
+  }
+
+  private static float parseFloat(String text) throws InvalidProtocolBufferException {
+    switch (text) {
+      case "NaN":
+        return Float.NaN;
+      case "Infinity":
+        return Float.POSITIVE_INFINITY;
+      case "-Infinity":
+        return Float.NEGATIVE_INFINITY;
+      default:
+    }
+
+    final double value;
+    try {
+      value = Double.parseDouble(text);
+    } catch (NumberFormatException e) {
+      throw new InvalidProtocolBufferException("Not a float value: " + text);
+    }
+
+    if (value > FLOAT_RANGE_LIMIT || value < -FLOAT_RANGE_LIMIT) {
+      throw new InvalidProtocolBufferException("Out of range float value: " + text);
+    }
+    return (float) value;
+  }
+
+  private static double parseDouble(String text) throws InvalidProtocolBufferException {
+    switch (text) {
+      case "NaN":
+        return Double.NaN;
+      case "Infinity":
+        return Double.POSITIVE_INFINITY;
+      case "-Infinity":
+        return Double.NEGATIVE_INFINITY;
+      default:
+    }
+
+    final double value;
+    try {
+      value = Double.parseDouble(text);
+    } catch (NumberFormatException e) {
+      throw new InvalidProtocolBufferException("Not a double value: " + text);
+    }
+
+    if (Double.isInfinite(value)) {
+      throw new InvalidProtocolBufferException("Out of range double value: " + text);
+    }
+    return value;
+  }
+
+  private static boolean parseBool(JsonParser parser) throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_TRUE -> true;
+      case VALUE_FALSE -> false;
+      default -> parseBool(scalarText(parser));
+    };
+  }
+
+  private static boolean parseBool(String text) throws InvalidProtocolBufferException {
+    return switch (text) {
+      case "true" -> true;
+      case "false" -> false;
+      default -> throw new InvalidProtocolBufferException("Invalid bool value: " + text);
+    };
+  }
+
+  private static ByteString parseBytes(String text) throws InvalidProtocolBufferException {
+    try {
+      return ByteString.copyFrom(Base64.getDecoder().decode(text));
+    } catch (IllegalArgumentException e) {
+      try {
+        return ByteString.copyFrom(Base64.getUrlDecoder().decode(text));
+      } catch (IllegalArgumentException urlSafeException) {
+        throw new InvalidProtocolBufferException("Not a base64 bytes value: " + text);
+      }
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,21 +15,18 @@
  */
 package org.wiremock.grpc.internal;
 
-import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_STATUS_NAME;
-import static org.wiremock.grpc.dsl.GrpcResponseDefinitionBuilder.GRPC_STATUS_REASON;
-import static org.wiremock.grpc.internal.Delays.delayIfRequired;
-
-import com.github.tomakehurst.wiremock.common.Pair;
-import com.github.tomakehurst.wiremock.http.HttpHeader;
 import com.github.tomakehurst.wiremock.http.StubRequestHandler;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
+import io.grpc.Context;
 import io.grpc.Status;
 import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
-import org.wiremock.grpc.dsl.WireMockGrpc;
 
 public class UnaryServerCallHandler extends BaseCallHandler
     implements ServerCalls.UnaryMethod<DynamicMessage, DynamicMessage> {
@@ -38,71 +35,96 @@ public class UnaryServerCallHandler extends BaseCallHandler
       StubRequestHandler stubRequestHandler,
       Descriptors.ServiceDescriptor serviceDescriptor,
       Descriptors.MethodDescriptor methodDescriptor,
-      JsonMessageConverter jsonMessageConverter,
-      Supplier<ServerAddress> serverAddressSupplier) {
+      Supplier<JsonMessageConverter> jsonMessageConverterSupplier,
+      Supplier<ServerAddress> serverAddressSupplier,
+      GrpcSettings settings) {
     super(
         stubRequestHandler,
         serviceDescriptor,
         methodDescriptor,
-        jsonMessageConverter,
-        serverAddressSupplier);
+        jsonMessageConverterSupplier,
+        serverAddressSupplier,
+        settings);
   }
 
   @Override
   public void invoke(DynamicMessage request, StreamObserver<DynamicMessage> responseObserver) {
+    final CallCancellation cancellation = CallCancellation.watch(responseObserver);
+    if (cancellation.isCancelled()) {
+      return;
+    }
+
     final ServerAddress serverAddress = serverAddressSupplier.get();
+    // The upstream replies on a client thread, which doesn't carry this call's deadline
+    final Context callContext = Context.current();
 
-    CONTEXT.set(
-        new GrpcContext(serviceDescriptor, methodDescriptor, jsonMessageConverter, request));
+    final GrpcContext context =
+        new GrpcContext(
+            serviceDescriptor, methodDescriptor, jsonMessageConverterSupplier.get(), request);
+    CONTEXT.set(context);
 
     final GrpcRequest wireMockRequest =
         new GrpcRequest(
-            serverAddress.scheme(),
-            serverAddress.hostname(),
-            serverAddress.port(),
-            serviceDescriptor.getFullName(),
-            methodDescriptor.getName(),
-            jsonMessageConverter.toJson(request));
+            serverAddress.scheme(), serverAddress.hostname(), serverAddress.port(), context);
 
     stubRequestHandler.handle(
         wireMockRequest,
         (req, resp, attributes) -> {
-          final HttpHeader statusHeader = resp.getHeaders().getHeader(GRPC_STATUS_NAME);
-
-          delayIfRequired(resp);
-
-          if (!statusHeader.isPresent()
-              && GrpcStatusUtils.errorHttpToGrpcStatusMappings.containsKey(resp.getStatus())) {
-            final Pair<Status, String> statusMapping =
-                GrpcStatusUtils.errorHttpToGrpcStatusMappings.get(resp.getStatus());
-            responseObserver.onError(
-                statusMapping.a.withDescription(statusMapping.b).asRuntimeException());
+          if (cancellation.attach(attributes)) {
             return;
           }
 
-          if (statusHeader.isPresent()
-              && !statusHeader.firstValue().equals(Status.Code.OK.name())) {
-            final HttpHeader statusReasonHeader = resp.getHeaders().getHeader(GRPC_STATUS_REASON);
-            final String reason =
-                statusReasonHeader.isPresent() ? statusReasonHeader.firstValue() : "";
-
-            WireMockGrpc.Status status = WireMockGrpc.Status.valueOf(statusHeader.firstValue());
-
-            responseObserver.onError(
-                Status.fromCodeValue(status.getValue())
-                    .withDescription(reason)
-                    .asRuntimeException());
+          final CompletableFuture<DynamicMessage> proxiedReply = context.getProxiedReply();
+          if (proxiedReply != null) {
+            proxiedReply.whenComplete(
+                (message, error) ->
+                    callContext.run(
+                        () ->
+                            replyAfterDelay(
+                                resp.getInitialDelay(),
+                                responseObserver,
+                                cancellation,
+                                () -> proxiedReply(message, error, attributes, responseObserver))));
             return;
           }
 
-          DynamicMessage.Builder messageBuilder =
-              DynamicMessage.newBuilder(methodDescriptor.getOutputType());
-
-          final DynamicMessage response =
-              jsonMessageConverter.toMessage(resp.getBodyAsString(), messageBuilder);
-          responseObserver.onNext(response);
-          responseObserver.onCompleted();
+          replyAfterDelay(
+              resp.getInitialDelay(),
+              responseObserver,
+              cancellation,
+              () -> singleMessageReply(resp, attributes, responseObserver));
         },
         ServeEvent.of(wireMockRequest));
   }
+
+  private Runnable proxiedReply(
+      DynamicMessage message,
+      Throwable error,
+      Map<String, Object> attributes,
+      StreamObserver<DynamicMessage> observer) {
+    final ServeEvent serveEvent = (ServeEvent) attributes.get(ServeEvent.ORIGINAL_SERVE_EVENT_KEY);
+    if (error != null) {
+      final Status status = Status.fromThrowable(error);
+      if (serveEvent != null) {
+        serveEvent.appendSubEvent(
+            SubEvent.info("Upstream replied " + status.getCode() + ": " + status.getDescription()));
+      }
+      return () -> observer.onError(status.asRuntimeException());
+    }
+
+    if (serveEvent != null) {
+      // A passed-through reply isn't decoded just to log it
+      serveEvent.appendSubEvent(
+          SubEvent.info(
+              DeferredMessageMarshaller.isDeferred(message)
+                  ? "Upstream replied OK with "
+                      + DeferredMessageMarshaller.serializedSize(message)
+                      + " bytes"
+                  : "Upstream replied OK: " + jsonMessageConverterSupplier.get().toJson(message)));
+    }
+    return () -> {
+      observer.onNext(message);
+      observer.onCompleted();
+    };
+  }
 }
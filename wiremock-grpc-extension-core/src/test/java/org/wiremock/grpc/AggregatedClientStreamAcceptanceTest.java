@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.wiremock.grpc.dsl.WireMockGrpc.fieldEqualTo;
+import static org.wiremock.grpc.dsl.WireMockGrpc.json;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.request.HelloRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+import org.wiremock.grpc.internal.ClientStreamMatching;
+
+public class AggregatedClientStreamAcceptanceTest {
+
+  static final int MAX_AGGREGATED_MESSAGES = 1000;
+  static final long MAX_AGGREGATED_BYTES = 64 * 1024;
+
+  WireMockGrpcService mockGreetingService;
+  ManagedChannel channel;
+  GreetingsClient greetingsClient;
+
+  @RegisterExtension
+  public static WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(
+                      new GrpcExtensionFactory.Builder()
+                          .setClientStreamMatching(ClientStreamMatching.AGGREGATED)
+                          .setMaxAggregatedMessages(MAX_AGGREGATED_MESSAGES)
+                          .setMaxAggregatedBytes(MAX_AGGREGATED_BYTES)
+                          .build()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    mockGreetingService =
+        new WireMockGrpcService(
+            wm.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", wm.getPort()).usePlaintext().build();
+    greetingsClient = new GreetingsClient(channel);
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @Test
+  void matchesTheWholeStreamAsJsonArray() {
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .withRequestMessage(equalToJson("[{ \"name\": \"Tom\" }, { \"name\": \"Ann\" }]"))
+            .willReturn(json("{ \"greeting\": \"Hi both\" }")));
+
+    assertThat(greetingsClient.manyGreetingsOneReply("Tom", "Ann"), is("Hi both"));
+  }
+
+  @Test
+  void fieldConditionsMatchAnyMessageInTheStream() {
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .withRequestMessage(fieldEqualTo("name", "Rob"))
+            .willReturn(json("{ \"greeting\": \"Hi Rob\" }")));
+
+    assertThat(greetingsClient.manyGreetingsOneReply("Tom", "Uri", "Rob", "Mark"), is("Hi Rob"));
+  }
+
+  @Test
+  void matchesOnceForTheWholeStream() {
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .withRequestMessage(fieldEqualTo("name", "Last"))
+            .willReturn(json("{ \"greeting\": \"Done\" }")));
+
+    String[] names =
+        IntStream.range(0, 500)
+            .mapToObj(i -> i == 499 ? "Last" : "Name " + i)
+            .toArray(String[]::new);
+
+    assertThat(greetingsClient.manyGreetingsOneReply(names), is("Done"));
+    assertThat(wm.getAllServeEvents().size(), is(1));
+  }
+
+  @Test
+  void failsWhenTheStreamDoesNotMatch() {
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .withRequestMessage(fieldEqualTo("name", "Jeff"))
+            .willReturn(json("{ \"greeting\": \"Hi Jeff\" }")));
+
+    Exception exception =
+        assertThrows(Exception.class, () -> greetingsClient.manyGreetingsOneReply("Tom", "Uri"));
+    assertThat(
+        exception.getCause().getMessage(),
+        is("UNIMPLEMENTED: No matching stub mapping found for gRPC request"));
+  }
+
+  @Test
+  void onlyBuffersTheConfiguredPrefixOfTheStream() {
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply").willReturn(json("{ \"greeting\": \"Got them\" }")));
+
+    String[] names =
+        IntStream.range(0, MAX_AGGREGATED_MESSAGES + 500)
+            .mapToObj(i -> "Name " + i)
+            .toArray(String[]::new);
+
+    assertThat(greetingsClient.manyGreetingsOneReply(names), is("Got them"));
+
+    JsonNode matchedBody =
+        Json.read(wm.getAllServeEvents().get(0).getRequest().getBodyAsString(), JsonNode.class);
+    assertThat(matchedBody.size(), is(MAX_AGGREGATED_MESSAGES));
+    assertThat(
+        matchedBody.get(MAX_AGGREGATED_MESSAGES - 1).get("name").asText(),
+        is("Name " + (MAX_AGGREGATED_MESSAGES - 1)));
+  }
+
+  @Test
+  void stopsBufferingOnceTheByteLimitIsReached() {
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply").willReturn(json("{ \"greeting\": \"Got them\" }")));
+
+    final String longName = "x".repeat(1000);
+    final int messageSize = HelloRequest.newBuilder().setName(longName).build().getSerializedSize();
+    String[] names = IntStream.range(0, 100).mapToObj(i -> longName).toArray(String[]::new);
+
+    assertThat(greetingsClient.manyGreetingsOneReply(names), is("Got them"));
+
+    JsonNode matchedBody =
+        Json.read(wm.getAllServeEvents().get(0).getRequest().getBodyAsString(), JsonNode.class);
+    assertThat(matchedBody.size(), is((int) (MAX_AGGREGATED_BYTES / messageSize)));
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.wiremock.grpc.dsl.WireMockGrpc.json;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.dsl.WireMockGrpc.Status;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+
+public class AsyncProxyAcceptanceTest {
+
+  WireMockGrpcService upstreamGreetingService;
+  ManagedChannel channel;
+  GreetingsClient greetingsClient;
+
+  @RegisterExtension
+  public static WireMockExtension upstream =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(new GrpcExtensionFactory()))
+          .build();
+
+  @RegisterExtension
+  public static WireMockExtension proxy =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(new GrpcExtensionFactory.Builder().setAsyncProxying(true).build()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    upstreamGreetingService =
+        new WireMockGrpcService(
+            upstream.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+    proxy.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .willReturn(aResponse().proxiedFrom(upstream.baseUrl())));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", proxy.getPort()).usePlaintext().build();
+    greetingsClient = new GreetingsClient(channel);
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @Test
+  void unaryCallIsAnsweredFromUpstreamAndItsReplyIsLogged() {
+    upstreamGreetingService.stubFor(
+        method("greeting").willReturn(json("{ \"greeting\": \"Hello from upstream\" }")));
+
+    assertThat(greetingsClient.greet("Tom"), is("Hello from upstream"));
+
+    List<String> subEventMessages =
+        proxy.getAllServeEvents().get(0).getSubEvents().stream()
+            .map(subEvent -> String.valueOf(subEvent.getData().get("message")))
+            .toList();
+    assertThat(subEventMessages, hasItem(startsWith("Upstream replied OK:")));
+  }
+
+  @Test
+  void requestHeadersAreSentUpstream() {
+    upstreamGreetingService.stubFor(
+        method("greeting").willReturn(json("{ \"greeting\": \"Hello from upstream\" }")));
+
+    final Metadata headers = new Metadata();
+    headers.put(Metadata.Key.of("x-trace-id", Metadata.ASCII_STRING_MARSHALLER), "abc123");
+    final GreetingsClient tracedClient =
+        new GreetingsClient(
+            ClientInterceptors.intercept(
+                channel, MetadataUtils.newAttachHeadersInterceptor(headers)));
+
+    assertThat(tracedClient.greet("Tom"), is("Hello from upstream"));
+    upstream.verify(
+        postRequestedFor(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .withHeader("x-trace-id", equalTo("abc123")));
+  }
+
+  @Test
+  void upstreamErrorStatusIsPassedThrough() {
+    upstreamGreetingService.stubFor(
+        method("greeting").willReturn(Status.FAILED_PRECONDITION, "Not ready upstream"));
+
+    StatusRuntimeException exception =
+        assertThrows(StatusRuntimeException.class, () -> greetingsClient.greet("Tom"));
+
+    assertThat(exception.getStatus().getCode(), is(io.grpc.Status.Code.FAILED_PRECONDITION));
+    assertThat(exception.getStatus().getDescription(), is("Not ready upstream"));
+  }
+}
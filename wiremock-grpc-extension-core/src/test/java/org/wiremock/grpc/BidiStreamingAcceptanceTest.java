@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.wiremock.grpc.dsl.WireMockGrpc.fieldEqualTo;
+import static org.wiremock.grpc.dsl.WireMockGrpc.json;
+import static org.wiremock.grpc.dsl.WireMockGrpc.jsonStream;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.request.HelloRequest;
+import com.example.grpc.response.HelloResponse;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.dsl.WireMockGrpc;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+
+public class BidiStreamingAcceptanceTest {
+
+  WireMockGrpcService mockGreetingService;
+  ManagedChannel channel;
+
+  @RegisterExtension
+  public static WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(new GrpcExtensionFactory()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    mockGreetingService =
+        new WireMockGrpcService(
+            wm.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", wm.getPort()).usePlaintext().build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @Test
+  void respondsToEachMessageWithoutWaitingForHalfClose() throws Exception {
+    stubGreetingFor("Tom");
+    stubGreetingFor("Ann");
+
+    final Conversation conversation = new Conversation();
+
+    conversation.send("Tom");
+    assertThat(conversation.nextGreeting(), is("Hi Tom"));
+
+    conversation.send("Ann");
+    assertThat(conversation.nextGreeting(), is("Hi Ann"));
+
+    assertThat(conversation.finish(), is(List.of("Hi Tom", "Hi Ann")));
+  }
+
+  @Test
+  void eachResponseIsDelayedIndependently() throws Exception {
+    mockGreetingService.stubFor(
+        method("manyGreetingsManyReplies")
+            .withRequestMessage(fieldEqualTo("name", "Slow"))
+            .willReturn(json("{ \"greeting\": \"Hi Slow\" }"))
+            .withFixedDelay(500));
+    stubGreetingFor("Fast");
+
+    final Conversation conversation = new Conversation();
+    conversation.send("Slow");
+    conversation.send("Fast");
+
+    assertThat(conversation.finish(), contains("Hi Fast", "Hi Slow"));
+  }
+
+  @Test
+  void streamsSeveralMessagesForOneRequest() throws Exception {
+    mockGreetingService.stubFor(
+        method("manyGreetingsManyReplies")
+            .willReturn(jsonStream("{ \"greeting\": \"One\" }", "{ \"greeting\": \"Two\" }")));
+
+    final Conversation conversation = new Conversation();
+    conversation.send("Tom");
+
+    assertThat(conversation.finish(), contains("One", "Two"));
+  }
+
+  @Test
+  void unmatchedMessagesGetNoResponse() throws Exception {
+    stubGreetingFor("Tom");
+
+    final Conversation conversation = new Conversation();
+    conversation.send("Nobody");
+    conversation.send("Tom");
+
+    assertThat(conversation.finish(), contains("Hi Tom"));
+  }
+
+  @Test
+  void failsAsUnmatchedWhenNoMessageMatches() throws Exception {
+    stubGreetingFor("Tom");
+
+    final Conversation conversation = new Conversation();
+    conversation.send("Nobody");
+
+    assertThat(conversation.finishWithError().getCode(), is(Status.Code.UNIMPLEMENTED));
+  }
+
+  @Test
+  void errorResponseEndsTheCall() throws Exception {
+    stubGreetingFor("Tom");
+    mockGreetingService.stubFor(
+        method("manyGreetingsManyReplies")
+            .withRequestMessage(fieldEqualTo("name", "Bad"))
+            .willReturn(WireMockGrpc.Status.INVALID_ARGUMENT, "Bad name"));
+
+    final Conversation conversation = new Conversation();
+    conversation.send("Tom");
+    assertThat(conversation.nextGreeting(), is("Hi Tom"));
+    conversation.send("Bad");
+
+    final Status status = conversation.finishWithError();
+    assertThat(status.getCode(), is(Status.Code.INVALID_ARGUMENT));
+    assertThat(status.getDescription(), is("Bad name"));
+  }
+
+  private void stubGreetingFor(String name) {
+    mockGreetingService.stubFor(
+        method("manyGreetingsManyReplies")
+            .withRequestMessage(fieldEqualTo("name", name))
+            .willReturn(json("{ \"greeting\": \"Hi " + name + "\" }")));
+  }
+
+  private class Conversation {
+    final BlockingQueue<String> greetings = new LinkedBlockingQueue<>();
+    final List<String> allGreetings = new ArrayList<>();
+    final CompletableFuture<List<String>> done = new CompletableFuture<>();
+    final StreamObserver<HelloRequest> requests;
+
+    Conversation() {
+      requests =
+          GreetingServiceGrpc.newStub(channel)
+              .manyGreetingsManyReplies(
+                  new StreamObserver<>() {
+                    @Override
+                    public void onNext(HelloResponse value) {
+                      allGreetings.add(value.getGreeting());
+                      greetings.add(value.getGreeting());
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                      done.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                      done.complete(allGreetings);
+                    }
+                  });
+    }
+
+    void send(String name) {
+      requests.onNext(HelloRequest.newBuilder().setName(name).build());
+    }
+
+    String nextGreeting() throws InterruptedException {
+      return greetings.poll(5, SECONDS);
+    }
+
+    List<String> finish() throws Exception {
+      requests.onCompleted();
+      return done.get(5, SECONDS);
+    }
+
+    Status finishWithError() throws Exception {
+      requests.onCompleted();
+      try {
+        done.get(5, SECONDS);
+        throw new AssertionError("Expected the call to fail");
+      } catch (ExecutionException e) {
+        return Status.fromThrowable(e.getCause());
+      }
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.wiremock.grpc.internal.BlobProtoDescriptorStore;
+
+public class BlobProtoDescriptorStoreTest {
+
+  @TempDir Path tempDir;
+  List<String> errors = new ArrayList<>();
+  BlobProtoDescriptorStore store;
+
+  @BeforeEach
+  void init() {
+    store =
+        new BlobProtoDescriptorStore(
+            new FileSourceBlobStore(new SingleRootFileSource(tempDir.toFile())),
+            new Notifier() {
+              @Override
+              public void info(String message) {}
+
+              @Override
+              public void error(String message) {
+                errors.add(message);
+              }
+
+              @Override
+              public void error(String message, Throwable t) {
+                errors.add(message);
+              }
+            });
+  }
+
+  @Test
+  void filesInSeveralDescriptorSetsAreBuiltOnceAfterTheirImports() throws IOException {
+    final byte[] greetings =
+        Files.readAllBytes(Paths.get("src/test/resources/wiremock/grpc/greetings.dsc"));
+    Files.write(tempDir.resolve("a.dsc"), greetings);
+    Files.write(tempDir.resolve("b.dsc"), greetings);
+
+    final List<Descriptors.FileDescriptor> fileDescriptors = store.loadAllFileDescriptors();
+
+    assertThat(
+        fileDescriptors.stream().map(Descriptors.FileDescriptor::getName).toList(),
+        containsInAnyOrder(
+            "request/models/sentiment.proto",
+            "request/helloRequest.proto",
+            "response/helloResponse.proto",
+            "google/protobuf/empty.proto",
+            "google/protobuf/any.proto",
+            "ExampleServices.proto"));
+    for (int i = 0; i < fileDescriptors.size(); i++) {
+      final Descriptors.FileDescriptor fileDescriptor = fileDescriptors.get(i);
+      assertThat(
+          fileDescriptor.getDependencies().stream()
+              .map(Descriptors.FileDescriptor::getName)
+              .toList(),
+          is(fileDescriptor.toProto().getDependencyList()));
+      assertThat(
+          fileDescriptors.subList(0, i).containsAll(fileDescriptor.getDependencies()), is(true));
+    }
+    assertThat(errors, is(List.of()));
+  }
+
+  @Test
+  void importCyclesAreReported() throws IOException {
+    writeDescriptorSet(
+        "cycle.dsc",
+        file("a.proto", "b.proto"),
+        file("b.proto", "c.proto"),
+        file("c.proto", "b.proto"));
+
+    final IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> store.loadAllFileDescriptors());
+
+    assertThat(
+        exception.getMessage(),
+        is("Descriptor files import each other in a cycle: b.proto -> c.proto -> b.proto"));
+  }
+
+  @Test
+  void missingImportsAreReportedAndTheFileIsStillLoaded() throws IOException {
+    writeDescriptorSet("incomplete.dsc", file("a.proto", "missing.proto"));
+
+    final List<Descriptors.FileDescriptor> fileDescriptors = store.loadAllFileDescriptors();
+
+    assertThat(
+        fileDescriptors.stream().map(Descriptors.FileDescriptor::getName).toList(),
+        contains("a.proto"));
+    assertThat(
+        errors,
+        contains(
+            "Descriptor file a.proto in incomplete.dsc imports missing.proto, which isn't in any"
+                + " descriptor set. Types from it can't be used."));
+  }
+
+  private void writeDescriptorSet(String name, DescriptorProtos.FileDescriptorProto... files)
+      throws IOException {
+    Files.write(
+        tempDir.resolve(name),
+        DescriptorProtos.FileDescriptorSet.newBuilder()
+            .addAllFile(List.of(files))
+            .build()
+            .toByteArray());
+  }
+
+  private static DescriptorProtos.FileDescriptorProto file(String name, String dependency) {
+    return DescriptorProtos.FileDescriptorProto.newBuilder()
+        .setName(name)
+        .addDependency(dependency)
+        .build();
+  }
+}
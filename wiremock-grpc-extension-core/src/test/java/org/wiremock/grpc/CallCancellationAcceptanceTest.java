@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.wiremock.grpc.dsl.WireMockGrpc.json;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.request.HelloRequest;
+import com.example.grpc.response.HelloResponse;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+import org.wiremock.grpc.internal.CallCancellation;
+
+public class CallCancellationAcceptanceTest {
+
+  static final ScheduledThreadPoolExecutor delayScheduler = new ScheduledThreadPoolExecutor(1);
+
+  static {
+    delayScheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  WireMockGrpcService mockGreetingService;
+  ManagedChannel channel;
+
+  @RegisterExtension
+  public static WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(
+                      new GrpcExtensionFactory.Builder().setDelayScheduler(delayScheduler).build()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    mockGreetingService =
+        new WireMockGrpcService(
+            wm.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", wm.getPort()).usePlaintext().build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @AfterAll
+  static void stopScheduler() {
+    delayScheduler.shutdownNow();
+  }
+
+  @Test
+  void cancelledUnaryCallAbortsPendingDelayAndIsRecorded() throws Exception {
+    mockGreetingService.stubFor(
+        method("greeting")
+            .willReturn(json("{ \"greeting\": \"Never sent\" }"))
+            .withFixedDelay(5000));
+
+    ListenableFuture<HelloResponse> call =
+        GreetingServiceGrpc.newFutureStub(channel)
+            .greeting(HelloRequest.newBuilder().setName("Tom").build());
+    awaitTrue(() -> delayScheduler.getQueue().size() == 1);
+
+    call.cancel(true);
+
+    awaitTrue(() -> delayScheduler.getQueue().isEmpty());
+    awaitTrue(CallCancellationAcceptanceTest::cancellationRecorded);
+  }
+
+  @Test
+  void cancelledClientStreamingCallAbortsPendingDelayAndIsRecorded() throws Exception {
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .willReturn(json("{ \"greeting\": \"Never sent\" }"))
+            .withFixedDelay(5000));
+
+    ClientCallStreamObserver<HelloRequest> requests =
+        (ClientCallStreamObserver<HelloRequest>)
+            GreetingServiceGrpc.newStub(channel)
+                .manyGreetingsOneReply(
+                    new StreamObserver<>() {
+                      @Override
+                      public void onNext(HelloResponse value) {}
+
+                      @Override
+                      public void onError(Throwable t) {}
+
+                      @Override
+                      public void onCompleted() {}
+                    });
+    requests.onNext(HelloRequest.newBuilder().setName("Tom").build());
+    requests.onCompleted();
+    awaitTrue(() -> delayScheduler.getQueue().size() == 1);
+
+    requests.cancel("Client gave up", null);
+
+    awaitTrue(() -> delayScheduler.getQueue().isEmpty());
+    awaitTrue(CallCancellationAcceptanceTest::cancellationRecorded);
+  }
+
+  private static boolean cancellationRecorded() {
+    return wm.getAllServeEvents().stream()
+        .flatMap(serveEvent -> serveEvent.getSubEvents().stream())
+        .anyMatch(
+            subEvent ->
+                CallCancellation.CANCELLED_MESSAGE.equals(subEvent.getData().get("message")));
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    final long giveUpAt = System.currentTimeMillis() + 2000;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < giveUpAt) {
+      Thread.sleep(10);
+    }
+    assertThat(condition.getAsBoolean(), is(true));
+  }
+}
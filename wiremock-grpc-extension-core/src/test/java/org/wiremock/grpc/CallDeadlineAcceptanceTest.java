@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.wiremock.grpc.dsl.WireMockGrpc.fieldEqualTo;
+import static org.wiremock.grpc.dsl.WireMockGrpc.json;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.request.HelloRequest;
+import com.example.grpc.response.HelloResponse;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+
+public class CallDeadlineAcceptanceTest {
+
+  static final ScheduledThreadPoolExecutor delayScheduler = new ScheduledThreadPoolExecutor(1);
+
+  WireMockGrpcService mockGreetingService;
+  ManagedChannel channel;
+
+  @RegisterExtension
+  public static WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(
+                      new GrpcExtensionFactory.Builder().setDelayScheduler(delayScheduler).build()))
+          .build();
+
+  @RegisterExtension
+  public static WireMockExtension upstream =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(new GrpcExtensionFactory()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    mockGreetingService =
+        new WireMockGrpcService(
+            wm.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", wm.getPort()).usePlaintext().build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @AfterAll
+  static void stopScheduler() {
+    delayScheduler.shutdownNow();
+  }
+
+  @Test
+  void unaryCallFailsAtDeadlineWithoutWaitingForDelay() throws Exception {
+    mockGreetingService.stubFor(
+        method("greeting").willReturn(json("{ \"greeting\": \"Too late\" }")).withFixedDelay(5000));
+
+    StatusRuntimeException exception =
+        assertThrows(
+            StatusRuntimeException.class,
+            () ->
+                GreetingServiceGrpc.newBlockingStub(channel)
+                    .withDeadlineAfter(200, MILLISECONDS)
+                    .greeting(HelloRequest.newBuilder().setName("Tom").build()));
+
+    assertThat(exception.getStatus().getCode(), is(Status.Code.DEADLINE_EXCEEDED));
+    assertNoPendingDelays();
+  }
+
+  @Test
+  void proxiedUnaryCallFailsAtDeadlineWithoutWaitingForDelay() throws Exception {
+    WireMockGrpcService upstreamGreetingService =
+        new WireMockGrpcService(
+            upstream.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+    upstreamGreetingService.stubFor(
+        method("greeting").willReturn(json("{ \"greeting\": \"Too late\" }")));
+    wm.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .willReturn(aResponse().proxiedFrom(upstream.baseUrl()).withFixedDelay(5000)));
+
+    StatusRuntimeException exception =
+        assertThrows(
+            StatusRuntimeException.class,
+            () ->
+                GreetingServiceGrpc.newBlockingStub(channel)
+                    .withDeadlineAfter(500, MILLISECONDS)
+                    .greeting(HelloRequest.newBuilder().setName("Tom").build()));
+
+    assertThat(exception.getStatus().getCode(), is(Status.Code.DEADLINE_EXCEEDED));
+    assertNoPendingDelays();
+  }
+
+  @Test
+  void clientStreamingCallFailsAtDeadlineWithoutWaitingForDelay() throws Exception {
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .willReturn(json("{ \"greeting\": \"Too late\" }"))
+            .withFixedDelay(5000));
+
+    final CompletableFuture<HelloResponse> reply = new CompletableFuture<>();
+    final StreamObserver<HelloRequest> requests =
+        GreetingServiceGrpc.newStub(channel)
+            .withDeadlineAfter(500, MILLISECONDS)
+            .manyGreetingsOneReply(
+                new StreamObserver<>() {
+                  @Override
+                  public void onNext(HelloResponse value) {
+                    reply.complete(value);
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                    reply.completeExceptionally(t);
+                  }
+
+                  @Override
+                  public void onCompleted() {}
+                });
+    requests.onNext(HelloRequest.newBuilder().setName("Tom").build());
+    requests.onCompleted();
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> reply.get(5, SECONDS));
+
+    assertThat(
+        Status.fromThrowable(exception.getCause()).getCode(), is(Status.Code.DEADLINE_EXCEEDED));
+    assertNoPendingDelays();
+  }
+
+  @Test
+  void bidiCallFailsAtDeadlineAfterTheRepliesAlreadySent() throws Exception {
+    mockGreetingService.stubFor(
+        method("manyGreetingsManyReplies")
+            .withRequestMessage(fieldEqualTo("name", "Quick"))
+            .willReturn(json("{ \"greeting\": \"Hi Quick\" }")));
+    mockGreetingService.stubFor(
+        method("manyGreetingsManyReplies")
+            .withRequestMessage(fieldEqualTo("name", "Slow"))
+            .willReturn(json("{ \"greeting\": \"Too late\" }"))
+            .withFixedDelay(5000));
+
+    final List<String> greetings = new CopyOnWriteArrayList<>();
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    final StreamObserver<HelloRequest> requests =
+        GreetingServiceGrpc.newStub(channel)
+            .withDeadlineAfter(500, MILLISECONDS)
+            .manyGreetingsManyReplies(
+                new StreamObserver<>() {
+                  @Override
+                  public void onNext(HelloResponse value) {
+                    greetings.add(value.getGreeting());
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                    done.completeExceptionally(t);
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                    done.complete(null);
+                  }
+                });
+    requests.onNext(HelloRequest.newBuilder().setName("Quick").build());
+    requests.onNext(HelloRequest.newBuilder().setName("Slow").build());
+    requests.onCompleted();
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> done.get(5, SECONDS));
+
+    assertThat(
+        Status.fromThrowable(exception.getCause()).getCode(), is(Status.Code.DEADLINE_EXCEEDED));
+    assertThat(greetings, contains("Hi Quick"));
+    assertNoPendingDelays();
+  }
+
+  @Test
+  void delayWithinDeadlineStillReturnsResponse() {
+    mockGreetingService.stubFor(
+        method("greeting")
+            .willReturn(json("{ \"greeting\": \"Just in time\" }"))
+            .withFixedDelay(200));
+
+    HelloResponse response =
+        GreetingServiceGrpc.newBlockingStub(channel)
+            .withDeadlineAfter(5, SECONDS)
+            .greeting(HelloRequest.newBuilder().setName("Tom").build());
+
+    assertThat(response.getGreeting(), is("Just in time"));
+  }
+
+  private static void assertNoPendingDelays() throws InterruptedException {
+    final long giveUpAt = System.currentTimeMillis() + 1000;
+    while (!delayScheduler.getQueue().isEmpty() && System.currentTimeMillis() < giveUpAt) {
+      Thread.sleep(10);
+    }
+    assertThat(delayScheduler.getQueue().size(), is(0));
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,52 +16,84 @@
 package org.wiremock.grpc;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.binaryEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
 import static com.github.tomakehurst.wiremock.client.WireMock.moreThanOrExactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.wiremock.grpc.dsl.WireMockGrpc.Status;
 import static org.wiremock.grpc.dsl.WireMockGrpc.equalToMessage;
+import static org.wiremock.grpc.dsl.WireMockGrpc.fieldEqualTo;
+import static org.wiremock.grpc.dsl.WireMockGrpc.fieldMatching;
 import static org.wiremock.grpc.dsl.WireMockGrpc.json;
 import static org.wiremock.grpc.dsl.WireMockGrpc.jsonTemplate;
 import static org.wiremock.grpc.dsl.WireMockGrpc.message;
 import static org.wiremock.grpc.dsl.WireMockGrpc.messageAsAny;
 import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+import static org.wiremock.grpc.dsl.WireMockGrpc.oneofCase;
+import static org.wiremock.grpc.dsl.WireMockGrpc.repeatedFieldContaining;
 
 import com.example.grpc.AnotherGreetingServiceGrpc;
 import com.example.grpc.GreetingServiceGrpc;
 import com.example.grpc.request.HelloRequest;
+import com.example.grpc.request.models.Sentiment;
 import com.example.grpc.response.HelloResponse;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.Encoding;
+import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.http.Fault;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.matching.BinaryEqualToPattern;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.google.common.base.Stopwatch;
 import com.google.protobuf.Empty;
+import io.grpc.CallOptions;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
 import io.grpc.StatusRuntimeException;
 import io.grpc.reflection.v1.ServerReflectionGrpc;
 import io.grpc.reflection.v1.ServerReflectionRequest;
 import io.grpc.reflection.v1.ServerReflectionResponse;
 import io.grpc.reflection.v1.ServiceResponse;
+import io.grpc.stub.ClientCalls;
 import io.grpc.stub.StreamObserver;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
@@ -75,6 +107,7 @@ import org.wiremock.grpc.client.AnotherGreetingsClient;
 import org.wiremock.grpc.client.GreetingsClient;
 import org.wiremock.grpc.dsl.WireMockGrpcService;
 import org.wiremock.grpc.internal.GrpcStatusUtils;
+import org.wiremock.grpc.internal.ProtoMessageRequestMatcher;
 
 public class GrpcAcceptanceTest {
 
@@ -163,6 +196,35 @@ public class GrpcAcceptanceTest {
     assertThat(greeting, is("Hi Tom from JSON"));
   }
 
+  @Test
+  void returnsUpdatedResponseAfterStubIsEdited() {
+    StubMapping stub =
+        mockGreetingService.stubFor(
+            method("greeting").willReturn(json("{ \"greeting\": \"Before edit\" }")));
+
+    assertThat(greetingsClient.greet("Tom"), is("Before edit"));
+    assertThat(greetingsClient.greet("Tom"), is("Before edit"));
+
+    wm.editStubMapping(
+        method("greeting")
+            .willReturn(json("{ \"greeting\": \"After edit\" }"))
+            .build(GreetingServiceGrpc.SERVICE_NAME)
+            .transform(builder -> builder.setId(stub.getId())));
+
+    assertThat(greetingsClient.greet("Tom"), is("After edit"));
+  }
+
+  @Test
+  void rendersTemplatedResponsePerRequest() {
+    mockGreetingService.stubFor(
+        method("greeting")
+            .willReturn(
+                jsonTemplate("{ \"greeting\": \"Hello {{jsonPath request.body '$.name'}}\" }")));
+
+    assertThat(greetingsClient.greet("Tom"), is("Hello Tom"));
+    assertThat(greetingsClient.greet("Ann"), is("Hello Ann"));
+  }
+
   @Test
   void returnsResponseBuiltFromMessageObject() {
     mockGreetingService.stubFor(
@@ -202,6 +264,141 @@ public class GrpcAcceptanceTest {
         is("UNIMPLEMENTED: No matching stub mapping found for gRPC request"));
   }
 
+  @Test
+  void matchesRequestViaSerializedMessageBytes() {
+    mockGreetingService.stubFor(
+        method("greeting")
+            .withRequestMessage(
+                binaryEqualTo(HelloRequest.newBuilder().setName("Tom").build().toByteArray()))
+            .willReturn(message(HelloResponse.newBuilder().setGreeting("OK"))));
+
+    assertThat(greetingsClient.greet("Tom"), is("OK"));
+
+    assertThrows(StatusRuntimeException.class, () -> greetingsClient.greet("Wrong"));
+  }
+
+  @Test
+  void matchesRequestViaSerializedMessageBytesWithRawStubbing() {
+    wm.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .andMatching(
+                ProtoMessageRequestMatcher.NAME,
+                Parameters.one(
+                    ProtoMessageRequestMatcher.BINARY_EQUAL_TO,
+                    Encoding.encodeBase64(
+                        HelloRequest.newBuilder().setName("Tom").build().toByteArray())))
+            .willReturn(okJson("{ \"greeting\": \"OK\" }")));
+
+    assertThat(greetingsClient.greet("Tom"), is("OK"));
+
+    assertThrows(StatusRuntimeException.class, () -> greetingsClient.greet("Wrong"));
+  }
+
+  @Test
+  void matchesRequestViaBinaryBodyPatternInJsonMapping() throws Exception {
+    byte[] requestBytes = HelloRequest.newBuilder().setName("Tom").build().toByteArray();
+    String mapping =
+        """
+        {
+          "request": {
+            "method": "POST",
+            "urlPath": "/com.example.grpc.GreetingService/greeting",
+            "bodyPatterns": [{ "binaryEqualTo": "%s" }]
+          },
+          "response": {
+            "status": 200,
+            "headers": { "grpc-status-name": "OK" },
+            "jsonBody": { "greeting": "OK" }
+          }
+        }
+        """
+            .formatted(Encoding.encodeBase64(requestBytes));
+    HttpResponse<String> created =
+        HttpClient.newHttpClient()
+            .send(
+                HttpRequest.newBuilder(URI.create(wm.baseUrl() + "/__admin/mappings"))
+                    .POST(HttpRequest.BodyPublishers.ofString(mapping))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+    assertThat(created.statusCode(), is(201));
+
+    assertThat(greetingsClient.greet("Tom"), is("OK"));
+
+    assertThrows(StatusRuntimeException.class, () -> greetingsClient.greet("Wrong"));
+  }
+
+  @Test
+  void binaryBodyPatternOnAPlainStubIsLeftAsWritten() {
+    StubMapping stub =
+        wm.stubFor(
+            post(urlPathEqualTo("/some.http.Service/upload"))
+                .withRequestBody(binaryEqualTo(new byte[] {1, 2, 3}))
+                .willReturn(ok()));
+
+    StubMapping stored = wm.getSingleStubMapping(stub.getId());
+    assertThat(
+        stored.getRequest().getBodyPatterns(), contains(instanceOf(BinaryEqualToPattern.class)));
+    assertThat(stored.getRequest().getCustomMatcher(), nullValue());
+  }
+
+  @Test
+  void matchesRequestViaMessageFieldPatterns() {
+    mockGreetingService.stubFor(
+        method("greeting")
+            .withRequestMessage(fieldMatching("name", matching("T.*")))
+            .withRequestMessage(fieldEqualTo("age", 42))
+            .withRequestMessage(fieldEqualTo("sentiment", Sentiment.ANGRY))
+            .willReturn(message(HelloResponse.newBuilder().setGreeting("OK"))));
+
+    assertThat(
+        greetingsClient.greet(
+            HelloRequest.newBuilder()
+                .setName("Tom")
+                .setAge(42)
+                .setSentiment(Sentiment.ANGRY)
+                .build()),
+        is("OK"));
+
+    assertThrows(
+        StatusRuntimeException.class,
+        () ->
+            greetingsClient.greet(
+                HelloRequest.newBuilder()
+                    .setName("Tom")
+                    .setAge(41)
+                    .setSentiment(Sentiment.ANGRY)
+                    .build()));
+  }
+
+  @Test
+  void matchesRequestViaRepeatedFieldAndOneofCase() {
+    mockGreetingService.stubFor(
+        method("greeting")
+            .withRequestMessage(repeatedFieldContaining("hobbies", "chess"))
+            .withRequestMessage(oneofCase("contact", "email"))
+            .willReturn(message(HelloResponse.newBuilder().setGreeting("OK"))));
+
+    assertThat(
+        greetingsClient.greet(
+            HelloRequest.newBuilder()
+                .addHobbies("running")
+                .addHobbies("chess")
+                .setEmail("tom@example.com")
+                .build()),
+        is("OK"));
+
+    assertThrows(
+        StatusRuntimeException.class,
+        () ->
+            greetingsClient.greet(
+                HelloRequest.newBuilder().addHobbies("chess").setPhone("0123456789").build()));
+    assertThrows(
+        StatusRuntimeException.class,
+        () ->
+            greetingsClient.greet(
+                HelloRequest.newBuilder().addHobbies("golf").setEmail("tom@example.com").build()));
+  }
+
   @ParameterizedTest
   @MethodSource("statusProvider")
   void shouldReturnTheCorrectGrpcErrorStatusForCorrespondingHttpStatus(
@@ -252,6 +449,43 @@ public class GrpcAcceptanceTest {
         is("UNIMPLEMENTED: No matching stub mapping found for gRPC request"));
   }
 
+  @Test
+  void discardsMessagesAfterStreamingMatchWithoutDecodingThem() throws Exception {
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .withRequestMessage(equalToMessage(HelloRequest.newBuilder().setName("Tom").build()))
+            .willReturn(message(HelloResponse.newBuilder().setGreeting("Hi Tom"))));
+
+    final MethodDescriptor<HelloRequest, HelloResponse> method =
+        GreetingServiceGrpc.getManyGreetingsOneReplyMethod();
+    final MethodDescriptor<byte[], HelloResponse> rawRequestMethod =
+        method.toBuilder(new RawBytesMarshaller(), method.getResponseMarshaller()).build();
+
+    final CompletableFuture<HelloResponse> reply = new CompletableFuture<>();
+    final StreamObserver<byte[]> requests =
+        ClientCalls.asyncClientStreamingCall(
+            channel.newCall(rawRequestMethod, CallOptions.DEFAULT),
+            new StreamObserver<>() {
+              @Override
+              public void onNext(HelloResponse value) {
+                reply.complete(value);
+              }
+
+              @Override
+              public void onError(Throwable t) {
+                reply.completeExceptionally(t);
+              }
+
+              @Override
+              public void onCompleted() {}
+            });
+    requests.onNext(HelloRequest.newBuilder().setName("Tom").build().toByteArray());
+    requests.onNext(new byte[] {(byte) 0xff, (byte) 0xff, (byte) 0xff});
+    requests.onCompleted();
+
+    assertThat(reply.get(5, SECONDS).getGreeting(), is("Hi Tom"));
+  }
+
   @Test
   void throwsReturnedErrorFromStreamingClientCall() {
     mockGreetingService.stubFor(
@@ -355,6 +589,44 @@ public class GrpcAcceptanceTest {
     assertThat(stopwatch.elapsed(), greaterThanOrEqualTo(Duration.ofMillis(990L)));
   }
 
+  @Test
+  void concurrentDelayedCallsAreServedTogether() throws Exception {
+    mockGreetingService.stubFor(
+        method("greeting")
+            .willReturn(json("{ \"greeting\": \"Delayed hello\" }"))
+            .withFixedDelay(1000));
+
+    final ExecutorService clients = Executors.newFixedThreadPool(50);
+    try {
+      Stopwatch stopwatch = Stopwatch.createStarted();
+      final List<Future<String>> greetings =
+          clients.invokeAll(
+              Collections.nCopies(50, (Callable<String>) () -> greetingsClient.greet("Tom")));
+      for (Future<String> greeting : greetings) {
+        assertThat(greeting.get(), is("Delayed hello"));
+      }
+      stopwatch.stop();
+
+      assertThat(stopwatch.elapsed(), lessThan(Duration.ofMillis(5000L)));
+    } finally {
+      clients.shutdown();
+    }
+  }
+
+  @Test
+  void fixedDelayAppliesToErrorResponses() {
+    mockGreetingService.stubFor(
+        method("greeting").willReturn(Status.UNAVAILABLE, "Later").withFixedDelay(500));
+
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    StatusRuntimeException exception =
+        assertThrows(StatusRuntimeException.class, () -> greetingsClient.greet("Tom"));
+    stopwatch.stop();
+
+    assertThat(exception.getMessage(), is("UNAVAILABLE: Later"));
+    assertThat(stopwatch.elapsed(), greaterThanOrEqualTo(Duration.ofMillis(490L)));
+  }
+
   @Test
   void randomDelay() {
     mockGreetingService.stubFor(
@@ -489,7 +761,8 @@ public class GrpcAcceptanceTest {
         method("greetingAnyResponse")
             .willReturn(
                 json(
-                    "{ \"@type\": \"type.googleapis.com/com.example.grpc.response.HelloResponse\", \"greeting\": \"Hiya\" }")));
+                    "{ \"@type\": \"type.googleapis.com/com.example.grpc.response.HelloResponse\","
+                        + " \"greeting\": \"Hiya\" }")));
 
     String typeUrl = greetingsClient.greetAnyResponse();
 
@@ -529,4 +802,20 @@ public class GrpcAcceptanceTest {
         serverReflectionResponses.get(0).getListServicesResponse().getServiceList();
     assertThat(serviceList.size(), is(4));
   }
+
+  static class RawBytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+    @Override
+    public InputStream stream(byte[] value) {
+      return new ByteArrayInputStream(value);
+    }
+
+    @Override
+    public byte[] parse(InputStream stream) {
+      try {
+        return stream.readAllBytes();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.grpc.ManagedChannel;
+import org.junit.jupiter.api.Test;
+import org.wiremock.grpc.internal.GrpcChannelPool;
+
+public class GrpcChannelPoolTest {
+
+  @Test
+  void channelIsReusedForTheSameAuthorityAndTlsSettings() {
+    GrpcChannelPool pool = new GrpcChannelPool();
+    try {
+      ManagedChannel first = lease(pool, "localhost", 8080, false);
+      ManagedChannel second = lease(pool, "localhost", 8080, false);
+      ManagedChannel tls = lease(pool, "localhost", 8080, true);
+      ManagedChannel otherPort = lease(pool, "localhost", 8081, false);
+
+      assertThat(second, sameInstance(first));
+      assertThat(tls, not(sameInstance(first)));
+      assertThat(otherPort, not(sameInstance(first)));
+      assertThat(pool.getMetrics(), is(new GrpcChannelPool.Metrics(3, 3, 0, 4)));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void idleChannelIsShutDownButLeasedChannelIsKept() throws Exception {
+    GrpcChannelPool pool = new GrpcChannelPool(10);
+    try {
+      ManagedChannel idle = lease(pool, "localhost", 8080, false);
+      GrpcChannelPool.Lease inUse = pool.acquire("localhost", 8081, false, false);
+      Thread.sleep(50);
+
+      ManagedChannel replacement = lease(pool, "localhost", 8080, false);
+
+      assertThat(idle.isShutdown(), is(true));
+      assertThat(replacement, not(sameInstance(idle)));
+      assertThat(inUse.getChannel().isShutdown(), is(false));
+      assertThat(pool.getMetrics().channelsEvicted(), is(1L));
+      inUse.close();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void shutdownClosesEveryChannel() {
+    GrpcChannelPool pool = new GrpcChannelPool();
+    ManagedChannel channel = lease(pool, "localhost", 8080, false);
+
+    pool.shutdown();
+
+    assertThat(channel.isTerminated(), is(true));
+    assertThat(pool.getMetrics().openChannels(), is(0));
+  }
+
+  private static ManagedChannel lease(GrpcChannelPool pool, String host, int port, boolean tls) {
+    try (GrpcChannelPool.Lease lease = pool.acquire(host, port, tls, false)) {
+      return lease.getChannel();
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2025 Thomas Akehurst
+ * Copyright (C) 2025-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,8 +20,10 @@ import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMoc
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.github.tomakehurst.wiremock.matching.EqualToJsonPattern;
@@ -32,6 +34,10 @@ import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.util.List;
 import org.apache.commons.io.FileUtils;
@@ -40,6 +46,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.internal.GrpcChannelPool;
 
 public class GrpcProxyTest {
   /**
@@ -139,4 +146,34 @@ public class GrpcProxyTest {
     String greetAfterRecording = greetingsClient.greet("Tom");
     assertThat("Hello Tom", is(greetAfterRecording));
   }
+
+  @Test
+  public void proxiedCallsReuseOnePooledChannel() throws Exception {
+    wm.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .willReturn(okJson("{ \"greeting\": \"Hello from upstream\" }")));
+    wmProxy.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .willReturn(aResponse().proxiedFrom(wm.baseUrl())));
+
+    GrpcChannelPool.Metrics before = channelPoolMetrics();
+    for (int i = 0; i < 5; i++) {
+      assertThat(greetingsClient.greet("Tom"), is("Hello from upstream"));
+    }
+    GrpcChannelPool.Metrics after = channelPoolMetrics();
+
+    assertThat(after.leases() - before.leases(), is(5L));
+    assertThat(after.channelsCreated() - before.channelsCreated(), lessThanOrEqualTo(1L));
+    assertThat(after.openChannels(), is(1));
+  }
+
+  private static GrpcChannelPool.Metrics channelPoolMetrics() throws Exception {
+    HttpResponse<String> response =
+        HttpClient.newHttpClient()
+            .send(
+                HttpRequest.newBuilder(URI.create(wmProxy.baseUrl() + "/__admin/ext/grpc/channels"))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+    return Json.read(response.body(), GrpcChannelPool.Metrics.class);
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024-2025 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,12 +22,19 @@ import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMoc
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.example.grpc.BookingRequest;
 import com.example.grpc.BookingResponse;
 import com.example.grpc.BookingServiceGrpc;
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Status;
@@ -41,12 +48,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.internal.BlobProtoDescriptorStore;
 
 public class GrpcReloadAcceptanceTest {
 
@@ -108,6 +117,56 @@ public class GrpcReloadAcceptanceTest {
     assertThat(booking.getId(), is(bookingId));
   }
 
+  @Test
+  void onlyChangedDescriptorFilesAreRebuiltOnReload() throws Exception {
+    stubGrpcMethods();
+    final BlobProtoDescriptorStore store =
+        new BlobProtoDescriptorStore(
+            new FileSourceBlobStore(new SingleRootFileSource(tempDir.resolve("grpc").toFile())));
+
+    writeDescriptorFile("src/test/resources/wiremock/grpc/greetings.dsc", "greetings.dsc");
+    writeDescriptorFile("src/test/resources/wiremock/grpc/bookings.dsc", "bookings.dsc");
+    reloadDescriptorFile();
+    final List<Descriptors.FileDescriptor> firstLoad = store.loadAllFileDescriptors();
+
+    assertThat(greetingsClient.greet("Tom"), is("Hello Tom"));
+
+    final Path bookings = tempDir.resolve("grpc/bookings.dsc");
+    final DescriptorProtos.FileDescriptorSet.Builder changedBookings =
+        DescriptorProtos.FileDescriptorSet.parseFrom(Files.readAllBytes(bookings)).toBuilder();
+    changedBookings
+        .getFileBuilder(changedBookings.getFileCount() - 1)
+        .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("BookingAdded"));
+    Files.write(bookings, changedBookings.build().toByteArray());
+    reloadDescriptorFile();
+    final List<Descriptors.FileDescriptor> secondLoad = store.loadAllFileDescriptors();
+
+    assertThat(secondLoad.size(), is(firstLoad.size()));
+    for (Descriptors.FileDescriptor fileDescriptor : firstLoad) {
+      final Descriptors.FileDescriptor reloaded = findFile(secondLoad, fileDescriptor.getName());
+      if (fileDescriptor.getName().equals("BookingServices.proto")) {
+        assertThat(reloaded, not(sameInstance(fileDescriptor)));
+        assertThat(reloaded.findMessageTypeByName("BookingAdded"), notNullValue());
+      } else {
+        assertThat(reloaded, sameInstance(fileDescriptor));
+      }
+    }
+
+    assertThat(greetingsClient.greet("Tom"), is("Hello Tom"));
+    String bookingId = UUID.randomUUID().toString();
+    BookingResponse booking =
+        bookingServiceStub.booking(BookingRequest.newBuilder().setId(bookingId).build());
+    assertThat(booking.getId(), is(bookingId));
+  }
+
+  private static Descriptors.FileDescriptor findFile(
+      List<Descriptors.FileDescriptor> fileDescriptors, String name) {
+    return fileDescriptors.stream()
+        .filter(fileDescriptor -> fileDescriptor.getName().equals(name))
+        .findFirst()
+        .orElseThrow();
+  }
+
   private void stubGrpcMethods() {
     wm.stubFor(
         post(urlPathEqualTo("/com.example.grpc.BookingService/booking"))
@@ -133,9 +192,13 @@ public class GrpcReloadAcceptanceTest {
   }
 
   private void writeDescriptorFile(String descriptorFile) throws IOException {
+    writeDescriptorFile(descriptorFile, "services.dsc");
+  }
+
+  private void writeDescriptorFile(String descriptorFile, String blobName) throws IOException {
     Files.copy(
         Paths.get(descriptorFile),
-        tempDir.resolve("grpc/services.dsc"),
+        tempDir.resolve("grpc").resolve(blobName),
         StandardCopyOption.REPLACE_EXISTING);
   }
 }
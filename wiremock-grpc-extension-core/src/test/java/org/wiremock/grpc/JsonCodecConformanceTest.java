@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.grpc.conformance.AllTypes;
+import com.example.grpc.conformance.AllTypesOuterClass;
+import com.example.grpc.response.HelloResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Duration;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.ListValue;
+import com.google.protobuf.Message;
+import com.google.protobuf.NullValue;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.TypeRegistry;
+import com.google.protobuf.Value;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.wiremock.grpc.internal.JsonCodec;
+import org.wiremock.grpc.internal.JsonMessageConverter;
+
+public class JsonCodecConformanceTest {
+
+  static final TypeRegistry TYPE_REGISTRY =
+      TypeRegistry.newBuilder()
+          .add(AllTypes.getDescriptor())
+          .add(HelloResponse.getDescriptor())
+          .build();
+
+  static final JsonMessageConverter JSON_FORMAT =
+      JsonCodec.JSON_FORMAT.newConverter(
+          TYPE_REGISTRY, List.of(AllTypesOuterClass.getDescriptor()));
+  static final JsonMessageConverter STREAMING =
+      JsonCodec.JACKSON_STREAMING.newConverter(
+          TYPE_REGISTRY, List.of(AllTypesOuterClass.getDescriptor()));
+
+  static final ObjectMapper MAPPER = new ObjectMapper();
+
+  static Stream<Message> messages() {
+    final AllTypes.Nested nested =
+        AllTypes.Nested.newBuilder()
+            .setName("nested <&> \"quoted\" \u2028")
+            .addNumbers(1)
+            .addNumbers(-2)
+            .setChild(AllTypes.Nested.newBuilder().setName("child"))
+            .build();
+
+    return Stream.of(
+            AllTypes.getDefaultInstance(),
+            AllTypes.newBuilder()
+                .setInt32Value(-42)
+                .setInt64Value(Long.MIN_VALUE)
+                .setUint32Value(-1)
+                .setUint64Value(-1L)
+                .setSint32Value(Integer.MIN_VALUE)
+                .setSint64Value(Long.MAX_VALUE)
+                .setFixed32Value(0x80000000)
+                .setFixed64Value(0x8000000000000000L)
+                .setSfixed32Value(7)
+                .setSfixed64Value(-7)
+                .setFloatValue(1.5e10f)
+                .setDoubleValue(-0.000123)
+                .setBoolValue(true)
+                .setStringValue("h\u00e9llo\n\t\u0000 \ud83d\ude00")
+                .setBytesValue(ByteString.copyFrom(new byte[] {0, -1, 127, -128, 42}))
+                .setColour(AllTypes.Colour.GREEN)
+                .setNested(nested)
+                .setOptionalInt32(0)
+                .build(),
+            AllTypes.newBuilder().setFloatValue(Float.NaN).setDoubleValue(Double.NaN).build(),
+            AllTypes.newBuilder()
+                .setFloatValue(Float.POSITIVE_INFINITY)
+                .setDoubleValue(Double.NEGATIVE_INFINITY)
+                .build(),
+            AllTypes.newBuilder().setColourValue(99).addRepeatedColourValue(42).build(),
+            AllTypes.newBuilder()
+                .addRepeatedInt32(1)
+                .addRepeatedInt32(0)
+                .addRepeatedInt32(-1)
+                .addRepeatedInt64(Long.MAX_VALUE)
+                .addRepeatedString("")
+                .addRepeatedString("two")
+                .addRepeatedColour(AllTypes.Colour.RED)
+                .addRepeatedNested(nested)
+                .addRepeatedNested(AllTypes.Nested.getDefaultInstance())
+                .build(),
+            AllTypes.newBuilder()
+                .putStringMap("a", "1")
+                .putStringMap("", "empty key")
+                .putInt32Map(-5, nested)
+                .putInt32Map(0, AllTypes.Nested.getDefaultInstance())
+                .putBoolMap(true, "yes")
+                .putBoolMap(false, "no")
+                .putUint64Map(-1L, AllTypes.Colour.RED)
+                .putValueMap("null", Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build())
+                .putValueMap("number", Value.newBuilder().setNumberValue(3.25).build())
+                .build(),
+            AllTypes.newBuilder().setChoiceString("").build(),
+            AllTypes.newBuilder().setChoiceNested(nested).build(),
+            AllTypes.newBuilder()
+                .setTimestamp(Timestamp.newBuilder().setSeconds(1700000000).setNanos(123000000))
+                .setDuration(Duration.newBuilder().setSeconds(-3).setNanos(-500000000))
+                .setStructValue(
+                    Struct.newBuilder()
+                        .putFields("s", Value.newBuilder().setStringValue("x").build())
+                        .putFields("b", Value.newBuilder().setBoolValue(false).build())
+                        .putFields(
+                            "l",
+                            Value.newBuilder()
+                                .setListValue(
+                                    ListValue.newBuilder()
+                                        .addValues(Value.newBuilder().setNumberValue(1)))
+                                .build()))
+                .setValue(Value.newBuilder().setNullValue(NullValue.NULL_VALUE))
+                .setListValue(
+                    ListValue.newBuilder().addValues(Value.newBuilder().setStringValue("item")))
+                .setNullValue(NullValue.NULL_VALUE)
+                .setInt32Wrapper(Int32Value.of(0))
+                .setStringWrapper(StringValue.of("wrapped"))
+                .setAny(Any.pack(HelloResponse.newBuilder().setGreeting("packed").build()))
+                .setFieldMask(
+                    FieldMask.newBuilder().addPaths("int32_value").addPaths("nested.name"))
+                .setEmpty(Empty.getDefaultInstance())
+                .build())
+        .map(JsonCodecConformanceTest::toDynamicMessage);
+  }
+
+  static Stream<String> jsonInputs() {
+    return Stream.of(
+        "{}",
+        "{ \"int32_value\": 1, \"string_value\": \"proto names\", \"repeated_int32\": [1, 2] }",
+        "{ \"int32Value\": \"12\", \"int64Value\": 34, \"uint32Value\": \"4294967295\","
+            + " \"uint64Value\": \"18446744073709551615\", \"fixed64Value\": 1 }",
+        "{ \"int32Value\": 1.0, \"int64Value\": \"1e3\", \"sint32Value\": -2e1 }",
+        "{ \"floatValue\": \"NaN\", \"doubleValue\": \"-Infinity\" }",
+        "{ \"floatValue\": \"1.25\", \"doubleValue\": 1e308 }",
+        "{ \"boolValue\": \"true\", \"stringValue\": null, \"nested\": null }",
+        "{ \"colour\": 2, \"repeatedColour\": [\"RED\", 1, \"2\", 7] }",
+        "{ \"bytesValue\": \"AP9_gCo\" }",
+        "{ \"bytesValue\": \"AP9/gCo=\" }",
+        "{ \"stringMap\": { \"k\": \"v\" }, \"int32Map\": { \"-1\": { \"name\": \"neg\" } },"
+            + " \"boolMap\": { \"true\": \"t\" }, \"uint64Map\": { \"18446744073709551615\": 1 },"
+            + " \"valueMap\": { \"n\": null, \"o\": { \"x\": [1, \"y\"] } } }",
+        "{ \"choiceNested\": { \"child\": { \"numbers\": [3] } } }",
+        "{ \"value\": null, \"nullValue\": null, \"int32Wrapper\": 5, \"stringWrapper\": \"w\" }",
+        "{ \"timestamp\": \"2023-11-14T22:13:20.123Z\", \"duration\": \"-3.500s\","
+            + " \"fieldMask\": \"int32Value,nested.name\", \"empty\": {},"
+            + " \"structValue\": { \"a\": { \"b\": [true, null, 1.5] } }, \"listValue\": [1, {}] }",
+        "{ \"any\": { \"@type\": \"type.googleapis.com/com.example.grpc.response.HelloResponse\","
+            + " \"greeting\": \"packed\" } }",
+        "{ \"repeatedNested\": [ { \"name\": \"a\" }, {} ], \"repeatedInt64\": [\"1\", 2] }");
+  }
+
+  static Stream<String> invalidJsonInputs() {
+    return Stream.of(
+        "{ \"noSuchField\": 1 }",
+        "{ \"int32Value\": 1, \"int32_value\": 2 }",
+        "{ \"choiceString\": \"a\", \"choiceNested\": {} }",
+        "{ \"int32Value\": 2147483648 }",
+        "{ \"int32Value\": 1.5 }",
+        "{ \"uint32Value\": -1 }",
+        "{ \"uint64Value\": \"18446744073709551616\" }",
+        "{ \"floatValue\": 3.5e38 }",
+        "{ \"boolValue\": \"yes\" }",
+        "{ \"colour\": \"PURPLE\" }",
+        "{ \"repeatedInt32\": [1, null] }",
+        "{ \"repeatedInt32\": 1 }",
+        "{ \"stringMap\": { \"k\": null } }",
+        "{ \"boolMap\": { \"maybe\": \"x\" } }",
+        "{ \"nested\": \"not an object\" }",
+        "[]");
+  }
+
+  @ParameterizedTest
+  @MethodSource("messages")
+  void printsJsonEquivalentToJsonFormat(Message message) throws Exception {
+    final JsonNode expected = MAPPER.readTree(JSON_FORMAT.toJson(message));
+    final JsonNode actual = MAPPER.readTree(STREAMING.toJson(message));
+
+    assertThat(actual, is(expected));
+  }
+
+  @ParameterizedTest
+  @MethodSource("messages")
+  void roundTripsMessages(Message message) {
+    final String streamingJson = STREAMING.toJson(message);
+    final String jsonFormatJson = JSON_FORMAT.toJson(message);
+
+    assertThat(STREAMING.toMessage(streamingJson, newBuilder()), is(message));
+    assertThat(STREAMING.toMessage(jsonFormatJson, newBuilder()), is(message));
+    assertThat(JSON_FORMAT.toMessage(streamingJson, newBuilder()), is(message));
+  }
+
+  @ParameterizedTest
+  @MethodSource("jsonInputs")
+  void parsesSameMessageAsJsonFormat(String json) {
+    final Message expected = JSON_FORMAT.toMessage(json, newBuilder());
+    final Message actual = STREAMING.toMessage(json, newBuilder());
+
+    assertThat(actual, is(expected));
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidJsonInputs")
+  void rejectsJsonThatJsonFormatRejects(String json) {
+    assertThrows(
+        InvalidProtocolBufferException.class, () -> JSON_FORMAT.toMessage(json, newBuilder()));
+    assertThrows(
+        InvalidProtocolBufferException.class, () -> STREAMING.toMessage(json, newBuilder()));
+  }
+
+  @Test
+  void delegatesWellKnownTypesAtTheTopLevelToJsonFormat() {
+    final Message message =
+        toDynamicMessage(Timestamp.newBuilder().setSeconds(1).setNanos(1000).build());
+
+    assertThat(STREAMING.toJson(message), is("\"1970-01-01T00:00:01.000001Z\""));
+    assertThat(
+        STREAMING.toMessage(
+            "\"1970-01-01T00:00:01.000001Z\"",
+            DynamicMessage.newBuilder(Timestamp.getDescriptor())),
+        is(message));
+  }
+
+  private static DynamicMessage.Builder newBuilder() {
+    return DynamicMessage.newBuilder(AllTypes.getDescriptor());
+  }
+
+  private static DynamicMessage toDynamicMessage(Message message) {
+    try {
+      return DynamicMessage.parseFrom(message.getDescriptorForType(), message.toByteString());
+    } catch (InvalidProtocolBufferException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.wiremock.grpc.dsl.WireMockGrpc.json;
+import static org.wiremock.grpc.dsl.WireMockGrpc.jsonStream;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.request.HelloRequest;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.grpc.CallOptions;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCalls;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+
+public class LazyServicesAcceptanceTest {
+
+  WireMockGrpcService mockGreetingService;
+  ManagedChannel channel;
+  GreetingsClient greetingsClient;
+
+  @RegisterExtension
+  public static WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(new GrpcExtensionFactory.Builder().setLazyServices(true).build()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    mockGreetingService =
+        new WireMockGrpcService(
+            wm.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", wm.getPort()).usePlaintext().build();
+    greetingsClient = new GreetingsClient(channel);
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @Test
+  void unaryMethodIsResolvedOnFirstCallAndReused() {
+    mockGreetingService.stubFor(
+        method("greeting").willReturn(json("{ \"greeting\": \"Hi from a lazy service\" }")));
+
+    assertThat(greetingsClient.greet("Tom"), is("Hi from a lazy service"));
+    assertThat(greetingsClient.greet("Tom"), is("Hi from a lazy service"));
+  }
+
+  @Test
+  void streamingMethodsAreResolvedLazily() {
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies")
+            .willReturn(jsonStream("{ \"greeting\": \"One\" }", "{ \"greeting\": \"Two\" }")));
+    mockGreetingService.stubFor(
+        method("manyGreetingsOneReply").willReturn(json("{ \"greeting\": \"Hi all\" }")));
+
+    assertThat(greetingsClient.oneGreetingManyReplies("Tom"), contains("One", "Two"));
+    assertThat(greetingsClient.manyGreetingsOneReply("Tom", "Dick", "Harry"), is("Hi all"));
+  }
+
+  @Test
+  void lazilyResolvedMethodsStillCopyRequestHeaders() {
+    wm.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .withHeader(RequestHeadersAcceptanceTest.X_MY_HEADER, equalTo("match me"))
+            .willReturn(okJson("{ \"greeting\": \"Header matched\" }")));
+
+    GreetingsClient client =
+        new GreetingsClient(
+            ClientInterceptors.intercept(
+                channel, new RequestHeadersAcceptanceTest.HeaderAdditionInterceptor()));
+
+    assertThat(client.greet("Tom"), is("Header matched"));
+  }
+
+  @Test
+  void methodMissingFromDescriptorsIsUnimplemented() {
+    StatusRuntimeException exception =
+        assertThrows(
+            StatusRuntimeException.class,
+            () ->
+                ClientCalls.blockingUnaryCall(
+                    channel,
+                    GreetingServiceGrpc.getGreetingMethod().toBuilder()
+                        .setFullMethodName("com.example.grpc.GreetingService/noSuchMethod")
+                        .build(),
+                    CallOptions.DEFAULT,
+                    HelloRequest.getDefaultInstance()));
+
+    assertThat(exception.getStatus().getCode(), is(Status.Code.UNIMPLEMENTED));
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.wiremock.grpc.dsl.WireMockGrpc.json;
+import static org.wiremock.grpc.dsl.WireMockGrpc.jsonTemplate;
+import static org.wiremock.grpc.dsl.WireMockGrpc.message;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.response.HelloResponse;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.dsl.WireMockGrpc;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+
+public class PreSerializedResponsesAcceptanceTest {
+
+  WireMockGrpcService mockGreetingService;
+  ManagedChannel channel;
+  GreetingsClient greetingsClient;
+
+  @RegisterExtension
+  public static WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(
+                      new GrpcExtensionFactory.Builder().setPreSerializedResponses(true).build()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    mockGreetingService =
+        new WireMockGrpcService(
+            wm.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", wm.getPort()).usePlaintext().build();
+    greetingsClient = new GreetingsClient(channel);
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @Test
+  void returnsStaticResponseRepeatedly() {
+    mockGreetingService.stubFor(
+        method("greeting")
+            .willReturn(message(HelloResponse.newBuilder().setGreeting("Hi from bytes"))));
+
+    assertThat(greetingsClient.greet("Tom"), is("Hi from bytes"));
+    assertThat(greetingsClient.greet("Tom"), is("Hi from bytes"));
+  }
+
+  @Test
+  void returnsTemplatedResponsePerRequest() {
+    mockGreetingService.stubFor(
+        method("greeting")
+            .willReturn(
+                jsonTemplate("{ \"greeting\": \"Hello {{jsonPath request.body '$.name'}}\" }")));
+
+    assertThat(greetingsClient.greet("Tom"), is("Hello Tom"));
+    assertThat(greetingsClient.greet("Ann"), is("Hello Ann"));
+  }
+
+  @Test
+  void returnsNewResponseAfterStubsAreReset() {
+    mockGreetingService.stubFor(method("greeting").willReturn(json("{ \"greeting\": \"One\" }")));
+    assertThat(greetingsClient.greet("Tom"), is("One"));
+
+    wm.resetAll();
+    mockGreetingService.stubFor(method("greeting").willReturn(json("{ \"greeting\": \"Two\" }")));
+
+    assertThat(greetingsClient.greet("Tom"), is("Two"));
+  }
+
+  @Test
+  void returnsErrorStatus() {
+    mockGreetingService.stubFor(
+        method("greeting").willReturn(WireMockGrpc.Status.FAILED_PRECONDITION, "Nope"));
+
+    StatusRuntimeException exception =
+        assertThrows(StatusRuntimeException.class, () -> greetingsClient.greet("Tom"));
+    assertThat(exception.getMessage(), is("FAILED_PRECONDITION: Nope"));
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -77,7 +77,8 @@ public class RequestHeadersAcceptanceTest {
             .willReturn(
                 okJson(
                         "{\n"
-                            + "    \"greeting\": \"The header value was: {{request.headers.x-my-Header}}\"\n"
+                            + "    \"greeting\": \"The header value was:"
+                            + " {{request.headers.x-my-Header}}\"\n"
                             + "}")
                     .withTransformers("response-template")));
 
@@ -102,6 +103,25 @@ public class RequestHeadersAcceptanceTest {
     assertThat(greeting, is(Arrays.toString("binary match me".getBytes())));
   }
 
+  @Test
+  void stubRequiringAbsentHeaderDoesNotMatch() {
+    channel = ClientInterceptors.intercept(managedChannel, new HeaderAdditionInterceptor());
+    greetingsClient = new GreetingsClient(channel);
+    wm.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .withHeader("X-Not Sent", equalTo("anything"))
+            .willReturn(okJson("{ \"greeting\": \"Wrong\" }")));
+    wm.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .atPriority(10)
+            .withHeader("X-MY-HEADER", equalTo("match me"))
+            .willReturn(okJson("{ \"greeting\": \"Right\" }")));
+
+    String greeting = greetingsClient.greet("Whatever");
+
+    assertThat(greeting, is("Right"));
+  }
+
   public static class HeaderAdditionInterceptor implements ClientInterceptor {
 
     static final Metadata.Key<String> CUSTOM_HEADER_KEY =
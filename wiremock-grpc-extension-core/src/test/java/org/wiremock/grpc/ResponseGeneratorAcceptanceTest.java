@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.wiremock.grpc.dsl.WireMockGrpc.generatedMessages;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.request.HelloRequest;
+import com.example.grpc.response.HelloResponse;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+
+public class ResponseGeneratorAcceptanceTest {
+
+  WireMockGrpcService mockGreetingService;
+  ManagedChannel channel;
+  GreetingsClient greetingsClient;
+
+  @RegisterExtension
+  public static WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(
+                      new GrpcExtensionFactory.Builder()
+                          .addResponseGenerator(new CountingGenerator())
+                          .addResponseGenerator(new AsyncCountingGenerator())
+                          .build()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    mockGreetingService =
+        new WireMockGrpcService(
+            wm.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", wm.getPort()).usePlaintext().build();
+    greetingsClient = new GreetingsClient(channel);
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @Test
+  void streamsMessagesFromIteratorGenerator() {
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies")
+            .willReturn(generatedMessages("counter").withGeneratorParameter("count", 3)));
+
+    assertThat(greetingsClient.oneGreetingManyReplies("Tom"), contains("Tom 0", "Tom 1", "Tom 2"));
+  }
+
+  @Test
+  void streamsMessagesFromAsynchronousPublisher() {
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies")
+            .willReturn(generatedMessages("async-counter").withGeneratorParameter("count", 3)));
+
+    assertThat(greetingsClient.oneGreetingManyReplies("Tom"), contains("Tom 0", "Tom 1", "Tom 2"));
+  }
+
+  @Test
+  void streamsLargeGeneratedSequence() {
+    final int count = 200_000;
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies")
+            .willReturn(generatedMessages("counter").withGeneratorParameter("count", count)));
+
+    final AtomicInteger received = new AtomicInteger();
+    GreetingServiceGrpc.newBlockingStub(channel)
+        .oneGreetingManyReplies(HelloRequest.newBuilder().setName("Tom").build())
+        .forEachRemaining(response -> received.incrementAndGet());
+
+    assertThat(received.get(), is(count));
+  }
+
+  @Test
+  void generatesMessagesForEachBidiRequest() throws Exception {
+    mockGreetingService.stubFor(
+        method("manyGreetingsManyReplies")
+            .willReturn(generatedMessages("counter").withGeneratorParameter("count", 2)));
+
+    final CompletableFuture<List<String>> done = new CompletableFuture<>();
+    final List<String> greetings = new ArrayList<>();
+    final StreamObserver<HelloRequest> requests =
+        GreetingServiceGrpc.newStub(channel)
+            .manyGreetingsManyReplies(
+                new StreamObserver<>() {
+                  @Override
+                  public void onNext(HelloResponse value) {
+                    greetings.add(value.getGreeting());
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                    done.completeExceptionally(t);
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                    done.complete(greetings);
+                  }
+                });
+    requests.onNext(HelloRequest.newBuilder().setName("Tom").build());
+    requests.onNext(HelloRequest.newBuilder().setName("Ann").build());
+    requests.onCompleted();
+
+    assertThat(done.get(5, SECONDS), contains("Tom 0", "Tom 1", "Ann 0", "Ann 1"));
+  }
+
+  @Test
+  void failsWhenGeneratorIsNotRegistered() {
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies").willReturn(generatedMessages("unknown")));
+
+    Iterator<HelloResponse> responses =
+        GreetingServiceGrpc.newBlockingStub(channel)
+            .oneGreetingManyReplies(HelloRequest.newBuilder().setName("Tom").build());
+
+    StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, responses::next);
+    assertThat(exception.getStatus().getCode(), is(Status.Code.INTERNAL));
+    assertThat(
+        exception.getStatus().getDescription(),
+        startsWith("Failed to produce response message: No gRPC response generator named"));
+  }
+
+  static DynamicMessage greeting(Descriptors.Descriptor responseType, String greeting) {
+    return DynamicMessage.newBuilder(responseType)
+        .setField(responseType.findFieldByName("greeting"), greeting)
+        .build();
+  }
+
+  static String name(DynamicMessage request) {
+    return (String) request.getField(request.getDescriptorForType().findFieldByName("name"));
+  }
+
+  public static class CountingGenerator implements GrpcResponseGenerator {
+
+    @Override
+    public String getName() {
+      return "counter";
+    }
+
+    @Override
+    public Flow.Publisher<DynamicMessage> generate(
+        DynamicMessage request, Descriptors.Descriptor responseType, Parameters parameters) {
+      return GrpcResponseGenerator.fromIterator(
+          IntStream.range(0, parameters.getInt("count"))
+              .mapToObj(i -> greeting(responseType, name(request) + " " + i))
+              .iterator());
+    }
+  }
+
+  /** Delivers each requested message from another thread. */
+  public static class AsyncCountingGenerator implements GrpcResponseGenerator {
+
+    @Override
+    public String getName() {
+      return "async-counter";
+    }
+
+    @Override
+    public Flow.Publisher<DynamicMessage> generate(
+        DynamicMessage request, Descriptors.Descriptor responseType, Parameters parameters) {
+      final int count = parameters.getInt("count");
+      return subscriber ->
+          subscriber.onSubscribe(
+              new Flow.Subscription() {
+                final AtomicInteger next = new AtomicInteger();
+
+                @Override
+                public void request(long n) {
+                  CompletableFuture.runAsync(
+                      () -> {
+                        for (long i = 0; i < n; i++) {
+                          final int index = next.getAndIncrement();
+                          if (index >= count) {
+                            subscriber.onComplete();
+                            return;
+                          }
+                          subscriber.onNext(greeting(responseType, name(request) + " " + index));
+                        }
+                      });
+                }
+
+                @Override
+                public void cancel() {}
+              });
+    }
+  }
+}
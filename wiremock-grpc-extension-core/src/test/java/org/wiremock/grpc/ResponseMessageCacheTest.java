@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.example.grpc.response.HelloResponse;
+import com.google.protobuf.DynamicMessage;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.wiremock.grpc.internal.DeferredMessageMarshaller;
+import org.wiremock.grpc.internal.ResponseMessageCache;
+
+public class ResponseMessageCacheTest {
+
+  @Test
+  void leastRecentlyUsedEntryIsEvictedOnceFull() {
+    ResponseMessageCache cache = new ResponseMessageCache(3, false);
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    DynamicMessage firstMessage = get(cache, first, "Hi", false);
+    get(cache, second, "Hi", false);
+    get(cache, UUID.randomUUID(), "Hi", false);
+    get(cache, first, "Hi", false);
+
+    get(cache, UUID.randomUUID(), "Hi", false);
+
+    assertThat(cache.size(), is(3));
+    assertThat(get(cache, first, "Hi", false), sameInstance(firstMessage));
+    assertThat(cache.size(), is(3));
+  }
+
+  @Test
+  void reusedBodyIsHandedOutSerialized() {
+    ResponseMessageCache cache = new ResponseMessageCache(3, true);
+    UUID stubId = UUID.randomUUID();
+    DynamicMessage parsed = get(cache, stubId, "Hi", false);
+
+    DynamicMessage serialized = get(cache, stubId, "Hi", false);
+
+    assertThat(DeferredMessageMarshaller.isDeferred(parsed), is(false));
+    assertThat(DeferredMessageMarshaller.isDeferred(serialized), is(true));
+    assertThat(DeferredMessageMarshaller.toByteArray(serialized), is(parsed.toByteArray()));
+    assertThat(get(cache, stubId, "Hi", false), sameInstance(serialized));
+  }
+
+  @Test
+  void templatedBodyIsNeverSerialized() {
+    ResponseMessageCache cache = new ResponseMessageCache(3, true);
+    UUID stubId = UUID.randomUUID();
+    DynamicMessage parsed = get(cache, stubId, "Hi", true);
+
+    assertThat(get(cache, stubId, "Hi", true), sameInstance(parsed));
+    assertThat(DeferredMessageMarshaller.isDeferred(parsed), is(false));
+  }
+
+  @Test
+  void entryIsReparsedWhenTheRenderedBodyChanges() {
+    ResponseMessageCache cache = new ResponseMessageCache(3, true);
+    UUID stubId = UUID.randomUUID();
+    DynamicMessage hi = get(cache, stubId, "Hi", false);
+
+    DynamicMessage hello = get(cache, stubId, "Hello", false);
+
+    assertThat(hello, not(sameInstance(hi)));
+    assertThat(DeferredMessageMarshaller.isDeferred(hello), is(false));
+    assertThat(cache.size(), is(1));
+  }
+
+  @Test
+  void evictingAStubRemovesOnlyItsEntries() {
+    ResponseMessageCache cache = new ResponseMessageCache(3, true);
+    UUID kept = UUID.randomUUID();
+    UUID evicted = UUID.randomUUID();
+    DynamicMessage keptMessage = get(cache, kept, "Hi", false);
+    get(cache, evicted, "Hi", false);
+
+    cache.evict(evicted);
+
+    assertThat(cache.size(), is(1));
+    assertThat(
+        DeferredMessageMarshaller.toByteArray(get(cache, kept, "Hi", false)),
+        is(keptMessage.toByteArray()));
+  }
+
+  private static DynamicMessage get(
+      ResponseMessageCache cache, UUID stubId, String greeting, boolean templated) {
+    Supplier<DynamicMessage> parser =
+        () ->
+            DynamicMessage.newBuilder(HelloResponse.getDescriptor())
+                .setField(HelloResponse.getDescriptor().findFieldByName("greeting"), greeting)
+                .build();
+    String body = "{ \"greeting\": \"" + greeting + "\" }";
+    return cache.get(stubId, HelloResponse.getDescriptor(), body, templated, parser);
+  }
+}
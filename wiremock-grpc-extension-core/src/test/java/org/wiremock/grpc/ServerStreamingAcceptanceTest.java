@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.wiremock.grpc.dsl.WireMockGrpc.Status;
+import static org.wiremock.grpc.dsl.WireMockGrpc.jsonStream;
+import static org.wiremock.grpc.dsl.WireMockGrpc.messages;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.request.HelloRequest;
+import com.example.grpc.response.HelloResponse;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+
+public class ServerStreamingAcceptanceTest {
+
+  WireMockGrpcService mockGreetingService;
+  ManagedChannel channel;
+  GreetingsClient greetingsClient;
+
+  @RegisterExtension
+  public static WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(new GrpcExtensionFactory()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    mockGreetingService =
+        new WireMockGrpcService(
+            wm.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", wm.getPort()).usePlaintext().build();
+    greetingsClient = new GreetingsClient(channel);
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @Test
+  void streamsEachMessageInOrder() {
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies")
+            .willReturn(
+                messages(
+                    HelloResponse.newBuilder().setGreeting("Hi Tom"),
+                    HelloResponse.newBuilder().setGreeting("Hello again Tom"),
+                    HelloResponse.newBuilder().setGreeting("Bye Tom"))));
+
+    assertThat(
+        greetingsClient.oneGreetingManyReplies("Tom"),
+        contains("Hi Tom", "Hello again Tom", "Bye Tom"));
+  }
+
+  @Test
+  void streamsMessagesFromJson() {
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies")
+            .willReturn(jsonStream("{ \"greeting\": \"One\" }", "{ \"greeting\": \"Two\" }")));
+
+    assertThat(greetingsClient.oneGreetingManyReplies("Tom"), contains("One", "Two"));
+  }
+
+  @Test
+  void emptyStreamCompletesWithoutMessages() {
+    mockGreetingService.stubFor(method("oneGreetingManyReplies").willReturn(jsonStream()));
+
+    assertThat(greetingsClient.oneGreetingManyReplies("Tom").isEmpty(), is(true));
+  }
+
+  @Test
+  void streamingMethodReturnsErrorStatus() {
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies").willReturn(Status.UNAVAILABLE, "Feed is down"));
+
+    Iterator<HelloResponse> responses =
+        GreetingServiceGrpc.newBlockingStub(channel)
+            .oneGreetingManyReplies(HelloRequest.newBuilder().setName("Tom").build());
+
+    StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, responses::next);
+    assertThat(exception.getMessage(), is("UNAVAILABLE: Feed is down"));
+  }
+
+  @Test
+  void largeStreamIsDeliveredAtThePaceTheClientRequests() throws Exception {
+    final int messageCount = 100_000;
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies")
+            .willReturn(
+                jsonStream(
+                    IntStream.range(0, messageCount)
+                        .mapToObj(i -> "{ \"greeting\": \"" + i + "\" }")
+                        .toList())));
+
+    final List<String> received = new ArrayList<>();
+    final CompletableFuture<List<String>> done = new CompletableFuture<>();
+    GreetingServiceGrpc.newStub(channel)
+        .oneGreetingManyReplies(
+            HelloRequest.newBuilder().setName("Tom").build(),
+            new ClientResponseObserver<HelloRequest, HelloResponse>() {
+              ClientCallStreamObserver<HelloRequest> requestStream;
+
+              @Override
+              public void beforeStart(ClientCallStreamObserver<HelloRequest> requestStream) {
+                this.requestStream = requestStream;
+                requestStream.disableAutoRequestWithInitial(100);
+              }
+
+              @Override
+              public void onNext(HelloResponse value) {
+                received.add(value.getGreeting());
+                if (received.size() % 100 == 0) {
+                  requestStream.request(100);
+                }
+              }
+
+              @Override
+              public void onError(Throwable t) {
+                done.completeExceptionally(t);
+              }
+
+              @Override
+              public void onCompleted() {
+                done.complete(received);
+              }
+            });
+
+    final List<String> responses = done.get(30, SECONDS);
+    assertThat(responses.size(), is(messageCount));
+    assertThat(responses.get(0), is("0"));
+    assertThat(responses.get(messageCount - 1), is(String.valueOf(messageCount - 1)));
+  }
+}
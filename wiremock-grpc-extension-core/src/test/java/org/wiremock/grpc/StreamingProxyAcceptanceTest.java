@@ -0,0 +1,407 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.wiremock.grpc.dsl.WireMockGrpc.fieldEqualTo;
+import static org.wiremock.grpc.dsl.WireMockGrpc.json;
+import static org.wiremock.grpc.dsl.WireMockGrpc.jsonStream;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.request.HelloRequest;
+import com.example.grpc.response.HelloResponse;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.dsl.WireMockGrpc;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+import org.wiremock.grpc.internal.ClientStreamMatching;
+
+public class StreamingProxyAcceptanceTest {
+
+  WireMockGrpcService upstreamGreetingService;
+  ManagedChannel channel;
+  GreetingsClient greetingsClient;
+
+  @RegisterExtension
+  public static WireMockExtension upstream =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(new GrpcExtensionFactory()))
+          .build();
+
+  @RegisterExtension
+  public static WireMockExtension proxy =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(new GrpcExtensionFactory()))
+          .build();
+
+  @RegisterExtension
+  public static WireMockExtension aggregatingProxy =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(
+                      new GrpcExtensionFactory.Builder()
+                          .setClientStreamMatching(ClientStreamMatching.AGGREGATED)
+                          .setMaxAggregatedMessages(3)
+                          .build()))
+          .build();
+
+  @RegisterExtension
+  public static WireMockExtension limitedProxy =
+      WireMockExtension.newInstance()
+          .options(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory("src/test/resources/wiremock")
+                  .extensions(
+                      new GrpcExtensionFactory.Builder().setMaxAggregatedMessages(3).build()))
+          .build();
+
+  @BeforeEach
+  void init() {
+    upstreamGreetingService =
+        new WireMockGrpcService(
+            upstream.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+    proxy.stubFor(
+        post(urlPathMatching("/com.example.grpc.GreetingService/.*"))
+            .willReturn(aResponse().proxiedFrom(upstream.baseUrl())));
+    aggregatingProxy.stubFor(
+        post(urlPathMatching("/com.example.grpc.GreetingService/.*"))
+            .willReturn(aResponse().proxiedFrom(upstream.baseUrl())));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", proxy.getPort()).usePlaintext().build();
+    greetingsClient = new GreetingsClient(channel);
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdown();
+  }
+
+  @Test
+  void serverStreamIsPipedFromUpstream() {
+    upstreamGreetingService.stubFor(
+        method("oneGreetingManyReplies")
+            .willReturn(
+                jsonStream(
+                    "{ \"greeting\": \"One\" }",
+                    "{ \"greeting\": \"Two\" }",
+                    "{ \"greeting\": \"Three\" }")));
+
+    assertThat(greetingsClient.oneGreetingManyReplies("Tom"), contains("One", "Two", "Three"));
+    assertThat(
+        proxySubEventMessages(), hasItem("Upstream closed the stream with OK after 3 messages"));
+  }
+
+  @Test
+  void requestHeadersAreSentUpstream() {
+    upstreamGreetingService.stubFor(
+        method("oneGreetingManyReplies").willReturn(jsonStream("{ \"greeting\": \"One\" }")));
+
+    final Metadata headers = new Metadata();
+    headers.put(Metadata.Key.of("x-trace-id", Metadata.ASCII_STRING_MARSHALLER), "abc123");
+    final GreetingsClient tracedClient =
+        new GreetingsClient(
+            ClientInterceptors.intercept(
+                channel, MetadataUtils.newAttachHeadersInterceptor(headers)));
+
+    assertThat(tracedClient.oneGreetingManyReplies("Tom"), contains("One"));
+    upstream.verify(
+        postRequestedFor(
+                urlPathEqualTo("/com.example.grpc.GreetingService/oneGreetingManyReplies"))
+            .withHeader("x-trace-id", equalTo("abc123")));
+  }
+
+  @Test
+  void wholeClientStreamIsForwardedUpstream() {
+    upstreamGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .withRequestMessage(fieldEqualTo("name", "Three"))
+            .willReturn(json("{ \"greeting\": \"Hi Three\" }")));
+
+    assertThat(greetingsClient.manyGreetingsOneReply("One", "Two", "Three"), is("Hi Three"));
+  }
+
+  @Test
+  void messagesBeforeTheOneThatMatchedAProxyStubAreForwardedUpstreamToo() {
+    final String path = "/com.example.grpc.GreetingService/manyGreetingsOneReply";
+    proxy.stubFor(
+        post(urlPathEqualTo(path))
+            .atPriority(1)
+            .withRequestBody(matchingJsonPath("$.name", equalTo("Three")))
+            .willReturn(aResponse().proxiedFrom(upstream.baseUrl())));
+    proxy.stubFor(post(urlPathEqualTo(path)).atPriority(2).willReturn(aResponse().withStatus(404)));
+    upstreamGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .withRequestMessage(fieldEqualTo("name", "Four"))
+            .willReturn(json("{ \"greeting\": \"Hi Four\" }")));
+
+    assertThat(greetingsClient.manyGreetingsOneReply("One", "Two", "Three", "Four"), is("Hi Four"));
+
+    for (String name : List.of("One", "Two", "Three", "Four")) {
+      upstream.verify(
+          postRequestedFor(urlPathEqualTo(path))
+              .withRequestBody(matchingJsonPath("$.name", equalTo(name))));
+    }
+  }
+
+  @Test
+  void aggregatedClientStreamIsForwardedUpstreamOnceMatched() {
+    upstreamGreetingService.stubFor(
+        method("manyGreetingsOneReply")
+            .withRequestMessage(fieldEqualTo("name", "Three"))
+            .willReturn(json("{ \"greeting\": \"Hi Three\" }")));
+
+    final ManagedChannel aggregatingChannel = aggregatingProxyChannel();
+    try {
+      assertThat(
+          new GreetingsClient(aggregatingChannel).manyGreetingsOneReply("One", "Two", "Three"),
+          is("Hi Three"));
+    } finally {
+      aggregatingChannel.shutdown();
+    }
+  }
+
+  @Test
+  void aggregatedClientStreamCutShortByTheLimitsIsNotProxied() {
+    upstreamGreetingService.stubFor(
+        method("manyGreetingsOneReply").willReturn(json("{ \"greeting\": \"Hi all\" }")));
+
+    final ManagedChannel aggregatingChannel = aggregatingProxyChannel();
+    try {
+      final Exception exception =
+          assertThrows(
+              Exception.class,
+              () ->
+                  new GreetingsClient(aggregatingChannel)
+                      .manyGreetingsOneReply("One", "Two", "Three", "Four", "Five"));
+      assertThat(exception.getCause().getMessage(), startsWith("RESOURCE_EXHAUSTED"));
+    } finally {
+      aggregatingChannel.shutdown();
+    }
+  }
+
+  @Test
+  void mockedBidiMessagesAreNotKeptForProxyingHoweverManyThereAre() throws Exception {
+    limitedProxy.stubFor(
+        post(urlPathMatching("/com.example.grpc.GreetingService/.*"))
+            .atPriority(10)
+            .willReturn(aResponse().proxiedFrom(upstream.baseUrl())));
+    final WireMockGrpcService limitedGreetingService =
+        new WireMockGrpcService(
+            limitedProxy.getRuntimeInfo().getWireMock(), GreetingServiceGrpc.SERVICE_NAME);
+    limitedGreetingService.stubFor(
+        method("manyGreetingsManyReplies").willReturn(json("{ \"greeting\": \"Hi\" }")));
+
+    final List<String> allGreetings = new ArrayList<>();
+    final CompletableFuture<List<String>> done = new CompletableFuture<>();
+    final ManagedChannel limitedChannel = limitedProxyChannel();
+    try {
+      final StreamObserver<HelloRequest> requests =
+          GreetingServiceGrpc.newStub(limitedChannel)
+              .manyGreetingsManyReplies(
+                  new StreamObserver<>() {
+                    @Override
+                    public void onNext(HelloResponse value) {
+                      allGreetings.add(value.getGreeting());
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                      done.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                      done.complete(allGreetings);
+                    }
+                  });
+      for (int i = 0; i < 50; i++) {
+        requests.onNext(HelloRequest.newBuilder().setName("Tom " + i).build());
+      }
+      requests.onCompleted();
+
+      assertThat(done.get(5, SECONDS).size(), is(50));
+    } finally {
+      limitedChannel.shutdown();
+    }
+    upstream.verify(
+        0,
+        postRequestedFor(
+            urlPathEqualTo("/com.example.grpc.GreetingService/manyGreetingsManyReplies")));
+  }
+
+  @Test
+  void unansweredMessagesPastTheLimitsFailTheStreamWhileItCouldBeProxied() {
+    limitedProxy.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/manyGreetingsOneReply"))
+            .withRequestBody(matchingJsonPath("$.name", equalTo("Last")))
+            .willReturn(aResponse().proxiedFrom(upstream.baseUrl())));
+
+    final ManagedChannel limitedChannel = limitedProxyChannel();
+    try {
+      final Exception exception =
+          assertThrows(
+              Exception.class,
+              () ->
+                  new GreetingsClient(limitedChannel)
+                      .manyGreetingsOneReply("One", "Two", "Three", "Four", "Last"));
+      assertThat(exception.getCause().getMessage(), startsWith("RESOURCE_EXHAUSTED"));
+    } finally {
+      limitedChannel.shutdown();
+    }
+  }
+
+  @Test
+  void bidiMessagesArePipedBothWaysWithoutWaitingForHalfClose() throws Exception {
+    stubUpstreamBidiGreetingFor("Tom");
+    stubUpstreamBidiGreetingFor("Ann");
+
+    final BlockingQueue<String> greetings = new LinkedBlockingQueue<>();
+    final List<String> allGreetings = new ArrayList<>();
+    final CompletableFuture<List<String>> done = new CompletableFuture<>();
+    final StreamObserver<HelloRequest> requests =
+        GreetingServiceGrpc.newStub(channel)
+            .manyGreetingsManyReplies(
+                new StreamObserver<>() {
+                  @Override
+                  public void onNext(HelloResponse value) {
+                    allGreetings.add(value.getGreeting());
+                    greetings.add(value.getGreeting());
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                    done.completeExceptionally(t);
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                    done.complete(allGreetings);
+                  }
+                });
+
+    requests.onNext(HelloRequest.newBuilder().setName("Tom").build());
+    assertThat(greetings.poll(5, SECONDS), is("Hi Tom"));
+    requests.onNext(HelloRequest.newBuilder().setName("Ann").build());
+    assertThat(greetings.poll(5, SECONDS), is("Hi Ann"));
+    requests.onCompleted();
+
+    assertThat(done.get(5, SECONDS), contains("Hi Tom", "Hi Ann"));
+  }
+
+  @Test
+  void upstreamErrorStatusEndsTheStream() {
+    upstreamGreetingService.stubFor(
+        method("manyGreetingsManyReplies")
+            .willReturn(WireMockGrpc.Status.UNAVAILABLE, "Upstream is down"));
+
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    final StreamObserver<HelloRequest> requests =
+        GreetingServiceGrpc.newStub(channel)
+            .manyGreetingsManyReplies(
+                new StreamObserver<>() {
+                  @Override
+                  public void onNext(HelloResponse value) {}
+
+                  @Override
+                  public void onError(Throwable t) {
+                    done.completeExceptionally(t);
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                    done.complete(null);
+                  }
+                });
+    requests.onNext(HelloRequest.newBuilder().setName("Tom").build());
+    requests.onCompleted();
+
+    final ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> done.get(5, SECONDS));
+    final Status status = Status.fromThrowable(exception.getCause());
+    assertThat(status.getCode(), is(Status.Code.UNAVAILABLE));
+    assertThat(status.getDescription(), is("Upstream is down"));
+  }
+
+  private void stubUpstreamBidiGreetingFor(String name) {
+    upstreamGreetingService.stubFor(
+        method("manyGreetingsManyReplies")
+            .withRequestMessage(fieldEqualTo("name", name))
+            .willReturn(json("{ \"greeting\": \"Hi " + name + "\" }")));
+  }
+
+  private static ManagedChannel aggregatingProxyChannel() {
+    return ManagedChannelBuilder.forAddress("localhost", aggregatingProxy.getPort())
+        .usePlaintext()
+        .build();
+  }
+
+  private static ManagedChannel limitedProxyChannel() {
+    return ManagedChannelBuilder.forAddress("localhost", limitedProxy.getPort())
+        .usePlaintext()
+        .build();
+  }
+
+  private static List<String> proxySubEventMessages() {
+    return proxy.getAllServeEvents().stream()
+        .flatMap(serveEvent -> serveEvent.getSubEvents().stream())
+        .map(subEvent -> String.valueOf(subEvent.getData().get("message")))
+        .toList();
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,7 +42,11 @@ public class GreetingsClient {
   }
 
   public String greet(String name) {
-    return stub.greeting(HelloRequest.newBuilder().setName(name).build()).getGreeting();
+    return greet(HelloRequest.newBuilder().setName(name).build());
+  }
+
+  public String greet(HelloRequest request) {
+    return stub.greeting(request).getGreeting();
   }
 
   public String greetAnyRequest() {
@@ -16,7 +16,6 @@
 package org.wiremock.grpc.jetty;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
-import static org.wiremock.grpc.internal.GrpcUtils.buildAndBindServices;
 
 import com.github.tomakehurst.wiremock.common.Exceptions;
 import com.github.tomakehurst.wiremock.http.StubRequestHandler;
@@ -29,33 +28,58 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.wiremock.grpc.internal.ServerAddress;
-
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.wiremock.grpc.internal.GrpcSettings;
+import org.wiremock.grpc.internal.ServerAddress;
+import org.wiremock.grpc.internal.ServiceDefinitionCache;
 
 public class GrpcFilter extends HttpFilter {
 
   //  private GrpcServlet grpcServlet;
-  private ServletAdapter servletAdapter;
-  private final StubRequestHandler stubRequestHandler;
+  private final AtomicReference<ServletAdapterGeneration> servletAdapter = new AtomicReference<>();
+  private final GrpcSettings settings;
+  private final Executor callExecutor;
+  private final ServiceDefinitionCache serviceDefinitions;
 
   public GrpcFilter(StubRequestHandler stubRequestHandler) {
-    this.stubRequestHandler = stubRequestHandler;
+    this(stubRequestHandler, GrpcSettings.defaults());
+  }
+
+  public GrpcFilter(StubRequestHandler stubRequestHandler, GrpcSettings settings) {
+    this.settings = settings;
+    this.callExecutor =
+        settings.isVirtualThreads() ? Jetty12GrpcHttpServerFactory.virtualThreadsExecutor() : null;
+    this.serviceDefinitions =
+        new ServiceDefinitionCache(stubRequestHandler, ServerAddressHolder::get, settings);
   }
 
   public void loadFileDescriptors(List<Descriptors.FileDescriptor> fileDescriptors) {
     loadFileDescriptors(fileDescriptors, Collections.emptyList());
   }
 
-  public void loadFileDescriptors(
+  /**
+   * Builds a new servlet adapter for the descriptors and swaps it in for new calls. The previous
+   * adapter carries on serving the calls it already accepted and is destroyed once they've closed.
+   */
+  public synchronized void loadFileDescriptors(
       List<Descriptors.FileDescriptor> fileDescriptors, List<ServerInterceptor> interceptors) {
-    servletAdapter =
-        buildAndBindServices(
-                new ServletServerBuilder(), fileDescriptors, stubRequestHandler, interceptors, ServerAddressHolder::get)
-            .buildServletAdapter();
+    final ServletServerBuilder serverBuilder = new ServletServerBuilder();
+    if (callExecutor != null) {
+      serverBuilder.executor(callExecutor);
+    }
+    final ServletAdapterGeneration next =
+        new ServletAdapterGeneration(
+            serviceDefinitions.bindServices(serverBuilder, fileDescriptors, interceptors));
+    final ServletAdapterGeneration previous = servletAdapter.getAndSet(next);
+    if (previous != null) {
+      previous.retire();
+    }
+    settings.getResponseMessageCache().clear();
   }
 
   @Override
@@ -70,16 +94,20 @@ public class GrpcFilter extends HttpFilter {
     ServerAddressHolder.set(request.getScheme(), request.getLocalAddr(), request.getLocalPort());
 
     final String method = request.getMethod();
-    if (isPost(method)) {
-      servletAdapter.doPost(request, response);
-    } else if (isGet(method)) {
-      servletAdapter.doGet(request, response);
+    if (isPost(method) || isGet(method)) {
+      ServletAdapterGeneration current;
+      while ((current = servletAdapter.get()) != null && !current.serve(request, response)) {
+        // The adapter was replaced and destroyed after being read, so use the one replacing it
+      }
     }
   }
 
   @Override
   public void destroy() {
-    servletAdapter.destroy();
+    final ServletAdapterGeneration current = servletAdapter.getAndSet(null);
+    if (current != null) {
+      current.retire();
+    }
   }
 
   private static boolean isGet(String method) {
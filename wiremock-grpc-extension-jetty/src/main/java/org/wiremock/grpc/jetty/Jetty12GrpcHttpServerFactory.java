@@ -23,10 +23,13 @@ import com.github.tomakehurst.wiremock.message.MessageStubRequestHandler;
 import jakarta.servlet.DispatcherType;
 import java.util.EnumSet;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import org.eclipse.jetty.ee11.servlet.FilterHolder;
 import org.eclipse.jetty.ee11.servlet.ServletContextHandler;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.wiremock.grpc.GrpcHttpServerFactory;
+import org.wiremock.grpc.internal.GrpcSettings;
 import org.wiremock.grpc.internal.ProtoDescriptorStore;
 
 public class Jetty12GrpcHttpServerFactory implements GrpcHttpServerFactory {
@@ -34,6 +37,7 @@ public class Jetty12GrpcHttpServerFactory implements GrpcHttpServerFactory {
   private final JettySettings jettySettings;
   private final Notifier reloadNotifier = new Notifier();
   private ProtoDescriptorStore protoDescriptorStore;
+  private GrpcSettings settings = GrpcSettings.defaults();
 
   public Jetty12GrpcHttpServerFactory() {
     this(null);
@@ -59,18 +63,28 @@ public class Jetty12GrpcHttpServerFactory implements GrpcHttpServerFactory {
     protoDescriptorStore = Objects.requireNonNull(store, "store cannot be null");
   }
 
+  @Override
+  public void initSettings(GrpcSettings settings) {
+    this.settings = Objects.requireNonNull(settings, "settings cannot be null");
+  }
+
   @Override
   public HttpServer buildHttpServer(
       Options options,
       AdminRequestHandler adminRequestHandler,
       StubRequestHandler stubRequestHandler,
       MessageStubRequestHandler messageStubRequestHandler) {
+    final GrpcSettings settings = this.settings;
+    final QueuedThreadPool threadPool = new QueuedThreadPool(options.containerThreads());
+    if (settings.isVirtualThreads()) {
+      threadPool.setVirtualThreadsExecutor(virtualThreadsExecutor());
+    }
     return new Jetty12HttpServer(
         options,
         adminRequestHandler,
         stubRequestHandler,
         jettySettings,
-        new QueuedThreadPool(options.containerThreads()),
+        threadPool,
         messageStubRequestHandler) {
       @Override
       protected void decorateMockServiceContextBeforeConfig(
@@ -80,7 +94,7 @@ public class Jetty12GrpcHttpServerFactory implements GrpcHttpServerFactory {
               "Must call initProtoDescriptorStore before using the server factory");
         }
 
-        GrpcFilter grpcFilter = new GrpcFilter(stubRequestHandler);
+        GrpcFilter grpcFilter = new GrpcFilter(stubRequestHandler, settings);
         Runnable loadFileDescriptors =
             () -> grpcFilter.loadFileDescriptors(protoDescriptorStore.loadAllFileDescriptors());
         reloadNotifier.addListener(loadFileDescriptors);
@@ -90,4 +104,11 @@ public class Jetty12GrpcHttpServerFactory implements GrpcHttpServerFactory {
       }
     };
   }
+
+  static Executor virtualThreadsExecutor() {
+    if (!VirtualThreads.areSupported()) {
+      throw new IllegalStateException("Virtual threads mode requires Java 21 or later");
+    }
+    return VirtualThreads.getNamedVirtualThreadsExecutor("wiremock-grpc-");
+  }
 }
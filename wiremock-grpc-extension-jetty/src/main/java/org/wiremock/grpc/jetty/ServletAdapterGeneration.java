@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc.jetty;
+
+import io.grpc.Metadata;
+import io.grpc.ServerStreamTracer;
+import io.grpc.Status;
+import io.grpc.servlet.jakarta.ServletAdapter;
+import io.grpc.servlet.jakarta.ServletServerBuilder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One generation of the filter's {@link ServletAdapter}, built each time descriptors are loaded.
+ * Requests being dispatched and calls still open hold on to the generation that accepted them, so
+ * once a newer generation replaces it the old adapter drains its in-flight calls and is destroyed
+ * when the last one closes.
+ */
+class ServletAdapterGeneration extends ServerStreamTracer.Factory {
+
+  private static final int DESTROYED = -1;
+
+  private final ServletAdapter servletAdapter;
+  private final AtomicInteger users = new AtomicInteger();
+  private volatile boolean retired;
+
+  ServletAdapterGeneration(ServletServerBuilder serverBuilder) {
+    this.servletAdapter = serverBuilder.addStreamTracerFactory(this).buildServletAdapter();
+  }
+
+  /**
+   * Hands the request to this generation's adapter, unless it has already been destroyed, in which
+   * case nothing is done and false is returned so the caller can use the current generation.
+   */
+  boolean serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    if (!acquire()) {
+      return false;
+    }
+
+    try {
+      if (request.getMethod().equalsIgnoreCase("GET")) {
+        servletAdapter.doGet(request, response);
+      } else {
+        servletAdapter.doPost(request, response);
+      }
+    } finally {
+      release();
+    }
+    return true;
+  }
+
+  /** Stops this generation being used once it's idle, destroying it straight away if it is. */
+  void retire() {
+    retired = true;
+    destroyIfIdle();
+  }
+
+  // Called while serve() holds the generation, so it can't have been destroyed
+  @Override
+  public ServerStreamTracer newServerStreamTracer(String fullMethodName, Metadata headers) {
+    users.incrementAndGet();
+    return new ServerStreamTracer() {
+      @Override
+      public void streamClosed(Status status) {
+        release();
+      }
+    };
+  }
+
+  private boolean acquire() {
+    int current;
+    do {
+      current = users.get();
+      if (current == DESTROYED) {
+        return false;
+      }
+    } while (!users.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  private void release() {
+    if (users.decrementAndGet() == 0) {
+      destroyIfIdle();
+    }
+  }
+
+  private void destroyIfIdle() {
+    if (retired && users.compareAndSet(0, DESTROYED)) {
+      servletAdapter.destroy();
+    }
+  }
+}
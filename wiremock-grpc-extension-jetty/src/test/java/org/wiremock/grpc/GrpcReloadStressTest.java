@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.wiremock.grpc.dsl.WireMockGrpc.json;
+import static org.wiremock.grpc.dsl.WireMockGrpc.jsonStream;
+import static org.wiremock.grpc.dsl.WireMockGrpc.method;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import io.grpc.InternalChannelz;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.wiremock.grpc.client.GreetingsClient;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+import org.wiremock.grpc.jetty.Jetty12GrpcHttpServerFactory;
+
+public class GrpcReloadStressTest {
+
+  static final int CLIENTS = 8;
+  static final int RELOADS = 200;
+
+  @TempDir Path tempDir;
+  HttpClient httpClient = HttpClient.newHttpClient();
+
+  @Test
+  public void reloadingUnderLoadFailsNoCallsAndDestroysReplacedAdapters() throws Exception {
+    Files.createDirectory(tempDir.resolve("grpc"));
+    Files.copy(
+        Paths.get("../wiremock-grpc-extension-core/src/test/resources/wiremock/grpc/greetings.dsc"),
+        tempDir.resolve("grpc/services.dsc"));
+    WireMockServer wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .withRootDirectory(tempDir.toAbsolutePath().toString())
+                .extensions(
+                    new GrpcExtensionFactory.Builder()
+                        .setServerFactory(new Jetty12GrpcHttpServerFactory())
+                        .build()));
+    wm.start();
+    WireMockGrpcService mockGreetingService =
+        new WireMockGrpcService(new WireMock(wm.port()), GreetingServiceGrpc.SERVICE_NAME);
+    mockGreetingService.stubFor(
+        method("greeting").willReturn(json("{ \"greeting\": \"Hello\" }")).withFixedDelay(5));
+    mockGreetingService.stubFor(
+        method("oneGreetingManyReplies")
+            .willReturn(jsonStream("{ \"greeting\": \"One\" }", "{ \"greeting\": \"Two\" }"))
+            .withFixedDelay(5));
+
+    ManagedChannel channel =
+        ManagedChannelBuilder.forAddress("localhost", wm.port()).usePlaintext().build();
+    GreetingsClient greetingsClient = new GreetingsClient(channel);
+    ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+    AtomicBoolean stop = new AtomicBoolean();
+    AtomicLong calls = new AtomicLong();
+    AtomicLong failures = new AtomicLong();
+    AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    try {
+      reloadRepeatedly(wm, RELOADS / 4);
+      long liveServersBefore = liveGrpcServers();
+      long heapBefore = usedHeapAfterGc();
+
+      List<Future<?>> load = new ArrayList<>();
+      for (int i = 0; i < CLIENTS; i++) {
+        final boolean streaming = i % 2 == 1;
+        load.add(
+            clients.submit(
+                () -> {
+                  while (!stop.get()) {
+                    try {
+                      if (streaming) {
+                        assertThat(greetingsClient.oneGreetingManyReplies("Tom").size(), is(2));
+                      } else {
+                        assertThat(greetingsClient.greet("Tom"), is("Hello"));
+                      }
+                      calls.incrementAndGet();
+                    } catch (Throwable e) {
+                      failures.incrementAndGet();
+                      firstFailure.compareAndSet(null, e);
+                    }
+                  }
+                }));
+      }
+
+      reloadRepeatedly(wm, RELOADS);
+      stop.set(true);
+      for (Future<?> client : load) {
+        client.get(30, TimeUnit.SECONDS);
+      }
+
+      long liveServersAfter = liveGrpcServers();
+      long heapAfter = usedHeapAfterGc();
+
+      assertThat(String.valueOf(firstFailure.get()), failures.get(), is(0L));
+      assertThat(calls.get(), greaterThan(0L));
+      assertThat(liveServersAfter, lessThanOrEqualTo(liveServersBefore));
+      assertThat(heapAfter - heapBefore, lessThan(32L * 1024 * 1024));
+    } finally {
+      stop.set(true);
+      clients.shutdownNow();
+      channel.shutdown();
+      wm.stop();
+    }
+  }
+
+  private void reloadRepeatedly(WireMockServer wm, int times) throws Exception {
+    HttpRequest reload =
+        HttpRequest.newBuilder(URI.create(wm.baseUrl()).resolve("/__admin/ext/grpc/reset"))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+    for (int i = 0; i < times; i++) {
+      HttpResponse<String> response = httpClient.send(reload, HttpResponse.BodyHandlers.ofString());
+      assertThat(response.statusCode(), is(200));
+    }
+  }
+
+  private static long liveGrpcServers() {
+    return InternalChannelz.instance().getServers(0, 1000).servers.size();
+  }
+
+  private static long usedHeapAfterGc() throws InterruptedException {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      Thread.sleep(50);
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
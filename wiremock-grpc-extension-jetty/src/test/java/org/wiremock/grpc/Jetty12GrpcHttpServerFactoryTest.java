@@ -51,8 +51,11 @@ import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.wiremock.grpc.client.GreetingsClient;
 import org.wiremock.grpc.internal.BlobProtoDescriptorStore;
+import org.wiremock.grpc.internal.GrpcSettings;
 import org.wiremock.grpc.jetty.Jetty12GrpcHttpServerFactory;
 
 public class Jetty12GrpcHttpServerFactoryTest {
@@ -95,6 +98,43 @@ public class Jetty12GrpcHttpServerFactoryTest {
         () -> grpcHttpServerFactory.buildHttpServer(new WireMockConfiguration(), null, null, null));
   }
 
+  @Test
+  @EnabledForJreRange(max = JRE.JAVA_20)
+  public void virtualThreadsModeRequiresJava21() {
+    Jetty12GrpcHttpServerFactory grpcHttpServerFactory = new Jetty12GrpcHttpServerFactory();
+    grpcHttpServerFactory.initProtoDescriptorStore(List::of);
+    grpcHttpServerFactory.initSettings(new GrpcSettings.Builder().setVirtualThreads(true).build());
+    var exception =
+        assertThrowsExactly(
+            IllegalStateException.class,
+            () -> grpcHttpServerFactory.buildHttpServer(new WireMockConfiguration(), null, null, null));
+    assertEquals("Virtual threads mode requires Java 21 or later", exception.getMessage());
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_21)
+  public void servesCallsOnVirtualThreads() {
+    WireMockServer wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .withRootDirectory("../wiremock-grpc-extension-core/src/test/resources/wiremock")
+                .extensions(
+                    new GrpcExtensionFactory.Builder()
+                        .setServerFactory(new Jetty12GrpcHttpServerFactory())
+                        .setVirtualThreads(true)
+                        .build()));
+    wm.start();
+    ManagedChannel channel =
+        ManagedChannelBuilder.forAddress("localhost", wm.port()).usePlaintext().build();
+    stubGrpcMethods(wm);
+
+    assertThat(new GreetingsClient(channel).greet("Tom"), is("Hello Tom"));
+
+    channel.shutdown();
+    wm.stop();
+  }
+
   @Test
   public void canBuildMultipleServersAndResetDescriptorsForAll()
       throws IOException, InterruptedException {
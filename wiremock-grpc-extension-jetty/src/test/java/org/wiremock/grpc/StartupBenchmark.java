@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.DescriptorProtos.MethodDescriptorProto;
+import com.google.protobuf.DescriptorProtos.ServiceDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ClientCalls;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.wiremock.grpc.jetty.Jetty12GrpcHttpServerFactory;
+
+/**
+ * Measures how long the server takes to start with thousands of synthetic services, spread over
+ * descriptor sets that share imports, and to reload after one of the sets changes. Run with {@code
+ * WIREMOCK_GRPC_BENCHMARKS=true ./gradlew :wiremock-grpc-extension-jetty:test --tests
+ * '*StartupBenchmark'}.
+ */
+@EnabledIfEnvironmentVariable(named = "WIREMOCK_GRPC_BENCHMARKS", matches = "true")
+public class StartupBenchmark {
+
+  static final int SERVICES = 4000;
+  static final int DESCRIPTOR_SETS = 20;
+  static final int SHARED_FILES = 40;
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void eagerServices() throws Exception {
+    run(false);
+  }
+
+  @Test
+  public void lazyServices() throws Exception {
+    run(true);
+  }
+
+  private void run(boolean lazyServices) throws Exception {
+    Files.createDirectory(tempDir.resolve("grpc"));
+    for (int set = 0; set < DESCRIPTOR_SETS; set++) {
+      writeDescriptorSet(set, false);
+    }
+
+    long start = System.nanoTime();
+    WireMockServer wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .withRootDirectory(tempDir.toAbsolutePath().toString())
+                .extensions(
+                    new GrpcExtensionFactory.Builder()
+                        .setServerFactory(new Jetty12GrpcHttpServerFactory())
+                        .setLazyServices(lazyServices)
+                        .build()));
+    wm.start();
+    long startMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    final int lastService = SERVICES - 1;
+    wm.stubFor(
+        post(urlPathEqualTo("/" + serviceName(lastService) + "/call"))
+            .willReturn(okJson("{\"greeting\": \"Hello\"}")));
+    ManagedChannel channel =
+        ManagedChannelBuilder.forAddress("localhost", wm.port()).usePlaintext().build();
+    try {
+      assertThat(call(channel, lastService), is("Hello"));
+
+      writeDescriptorSet(0, true);
+      start = System.nanoTime();
+      reload(wm);
+      long reloadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      assertThat(call(channel, lastService), is("Hello"));
+
+      System.out.printf(
+          "%s: %d services in %d descriptor sets on %d processors: started in %dms, reloaded after"
+              + " one set changed in %dms%n",
+          lazyServices ? "Lazy services" : "Eager services",
+          SERVICES,
+          DESCRIPTOR_SETS,
+          Runtime.getRuntime().availableProcessors(),
+          startMillis,
+          reloadMillis);
+    } finally {
+      channel.shutdown();
+      wm.stop();
+    }
+  }
+
+  private void writeDescriptorSet(int set, boolean changed) throws Exception {
+    final Map<String, FileDescriptorProto> files = new LinkedHashMap<>();
+    for (int service = set; service < SERVICES; service += DESCRIPTOR_SETS) {
+      final FileDescriptorProto shared = sharedFile(service);
+      files.put(shared.getName(), shared);
+      FileDescriptorProto serviceFile = serviceFile(service);
+      if (changed && service == set) {
+        serviceFile =
+            serviceFile.toBuilder()
+                .addMessageType(DescriptorProto.newBuilder().setName("Changed"))
+                .build();
+      }
+      files.put(serviceFile.getName(), serviceFile);
+    }
+
+    Files.write(
+        tempDir.resolve("grpc/services-" + set + ".dsc"),
+        FileDescriptorSet.newBuilder().addAllFile(files.values()).build().toByteArray());
+  }
+
+  private static FileDescriptorProto sharedFile(int service) {
+    final int shared = service % SHARED_FILES;
+    return FileDescriptorProto.newBuilder()
+        .setName("synthetic/shared" + shared + ".proto")
+        .setPackage("synthetic.shared" + shared)
+        .setSyntax("proto3")
+        .addMessageType(
+            DescriptorProto.newBuilder().setName("Shared").addField(field("id", 1, null)))
+        .build();
+  }
+
+  private static FileDescriptorProto serviceFile(int service) {
+    final FileDescriptorProto shared = sharedFile(service);
+    return FileDescriptorProto.newBuilder()
+        .setName("synthetic/service" + service + ".proto")
+        .setPackage("synthetic.s" + service)
+        .setSyntax("proto3")
+        .addDependency(shared.getName())
+        .addMessageType(
+            DescriptorProto.newBuilder()
+                .setName("Request")
+                .addField(field("name", 1, null))
+                .addField(field("shared", 2, "." + shared.getPackage() + ".Shared")))
+        .addMessageType(
+            DescriptorProto.newBuilder().setName("Response").addField(field("greeting", 1, null)))
+        .addService(
+            ServiceDescriptorProto.newBuilder()
+                .setName("Service" + service)
+                .addMethod(
+                    MethodDescriptorProto.newBuilder()
+                        .setName("call")
+                        .setInputType(".synthetic.s" + service + ".Request")
+                        .setOutputType(".synthetic.s" + service + ".Response")))
+        .build();
+  }
+
+  private static FieldDescriptorProto.Builder field(String name, int number, String messageType) {
+    final FieldDescriptorProto.Builder field =
+        FieldDescriptorProto.newBuilder()
+            .setName(name)
+            .setNumber(number)
+            .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+    return messageType == null
+        ? field.setType(FieldDescriptorProto.Type.TYPE_STRING)
+        : field.setType(FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(messageType);
+  }
+
+  private static String serviceName(int service) {
+    return "synthetic.s" + service + ".Service" + service;
+  }
+
+  private static String call(ManagedChannel channel, int service) throws Exception {
+    final Descriptors.FileDescriptor file =
+        Descriptors.FileDescriptor.buildFrom(
+            serviceFile(service),
+            new Descriptors.FileDescriptor[] {
+              Descriptors.FileDescriptor.buildFrom(
+                  sharedFile(service), new Descriptors.FileDescriptor[0])
+            });
+    final Descriptors.Descriptor request = file.findMessageTypeByName("Request");
+    final Descriptors.Descriptor response = file.findMessageTypeByName("Response");
+    final MethodDescriptor<DynamicMessage, DynamicMessage> method =
+        MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(
+                MethodDescriptor.generateFullMethodName(serviceName(service), "call"))
+            .setRequestMarshaller(ProtoUtils.marshaller(DynamicMessage.getDefaultInstance(request)))
+            .setResponseMarshaller(
+                ProtoUtils.marshaller(DynamicMessage.getDefaultInstance(response)))
+            .build();
+
+    final DynamicMessage reply =
+        ClientCalls.blockingUnaryCall(
+            channel, method, CallOptions.DEFAULT, DynamicMessage.getDefaultInstance(request));
+    return (String) reply.getField(response.findFieldByName("greeting"));
+  }
+
+  private static void reload(WireMockServer wm) throws Exception {
+    HttpResponse<String> response =
+        HttpClient.newHttpClient()
+            .send(
+                HttpRequest.newBuilder(URI.create(wm.baseUrl()).resolve("/__admin/ext/grpc/reset"))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+    assertThat(response.statusCode(), is(200));
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.grpc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.example.grpc.GreetingServiceGrpc;
+import com.example.grpc.request.HelloRequest;
+import com.example.grpc.response.HelloResponse;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.condition.JRE;
+import org.wiremock.grpc.jetty.Jetty12GrpcHttpServerFactory;
+
+/**
+ * Compares gRPC call handling on the platform thread pool with virtual threads when stub logic
+ * blocks. Run with {@code WIREMOCK_GRPC_BENCHMARKS=true ./gradlew
+ * :wiremock-grpc-extension-jetty:test --tests '*VirtualThreadsBenchmark'}.
+ */
+@EnabledIfEnvironmentVariable(named = "WIREMOCK_GRPC_BENCHMARKS", matches = "true")
+public class VirtualThreadsBenchmark {
+
+  static final int CHANNELS = 20;
+  static final int CALLS_PER_CHANNEL = 100;
+  static final long BLOCKING_STUB_LOGIC_MILLIS = 200;
+
+  @Test
+  public void platformThreadPool() throws Exception {
+    run(false);
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_21)
+  public void virtualThreads() throws Exception {
+    run(true);
+  }
+
+  private void run(boolean virtualThreads) throws Exception {
+    WireMockServer wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .withRootDirectory("../wiremock-grpc-extension-core/src/test/resources/wiremock")
+                .extensions(
+                    new GrpcExtensionFactory.Builder()
+                        .setServerFactory(new Jetty12GrpcHttpServerFactory())
+                        .setVirtualThreads(virtualThreads)
+                        .build())
+                .extensions(new BlockingStubLogic()));
+    wm.start();
+    wm.stubFor(
+        post(urlPathEqualTo("/com.example.grpc.GreetingService/greeting"))
+            .willReturn(okJson("{\"greeting\": \"Hello\"}")));
+
+    List<ManagedChannel> channels = new ArrayList<>();
+    for (int i = 0; i < CHANNELS; i++) {
+      channels.add(ManagedChannelBuilder.forAddress("localhost", wm.port()).usePlaintext().build());
+    }
+
+    try {
+      callConcurrently(channels);
+
+      ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+      threads.resetPeakThreadCount();
+      long start = System.nanoTime();
+      callConcurrently(channels);
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      System.out.printf(
+          "%s: %d concurrent calls with %dms blocking stub logic took %dms, peak threads %d%n",
+          virtualThreads ? "Virtual threads" : "Platform thread pool",
+          CHANNELS * CALLS_PER_CHANNEL,
+          BLOCKING_STUB_LOGIC_MILLIS,
+          elapsedMillis,
+          threads.getPeakThreadCount());
+    } finally {
+      channels.forEach(ManagedChannel::shutdown);
+      wm.stop();
+    }
+  }
+
+  private static void callConcurrently(List<ManagedChannel> channels) throws Exception {
+    List<ListenableFuture<HelloResponse>> calls = new ArrayList<>();
+    for (ManagedChannel channel : channels) {
+      GreetingServiceGrpc.GreetingServiceFutureStub stub = GreetingServiceGrpc.newFutureStub(channel);
+      for (int i = 0; i < CALLS_PER_CHANNEL; i++) {
+        calls.add(stub.greeting(HelloRequest.newBuilder().setName("Tom").build()));
+      }
+    }
+
+    for (ListenableFuture<HelloResponse> call : calls) {
+      assertThat(call.get(30, TimeUnit.SECONDS).getGreeting(), is("Hello"));
+    }
+  }
+
+  public static class BlockingStubLogic implements ResponseDefinitionTransformerV2 {
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+      try {
+        Thread.sleep(BLOCKING_STUB_LOGIC_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return serveEvent.getResponseDefinition();
+    }
+
+    @Override
+    public String getName() {
+      return "blocking-stub-logic";
+    }
+  }
+}